@@ -0,0 +1,4 @@
+-- The student updated time is kept with millisecond precision. It is the version of the student used by the
+-- ETags and the page cursors, so a DATE column would hide every change made on the same day.
+-- ddl-auto: update does not change the type of an existing column, run this once on the existing databases.
+ALTER TABLE student MODIFY updated_at DATETIME(3);
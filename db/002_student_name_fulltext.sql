@@ -0,0 +1,4 @@
+-- The student name search ranks the students with this full text index. Hibernate can not declare a FULLTEXT
+-- index, so it is not created by ddl-auto: update. Terms shorter than innodb_ft_min_token_size (3 by default)
+-- are not indexed, keep student.search.min-token-length equal to it.
+ALTER TABLE student ADD FULLTEXT INDEX ft_student_name (first_name, last_name);
@@ -0,0 +1,6 @@
+-- The student version is checked and increased by every update, a patch made with an older version is rejected.
+-- ddl-auto: update adds the column without a default to an existing table, run this once on the existing databases.
+ALTER TABLE student ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- The archived students keep their version, a restored student continues after it.
+ALTER TABLE student_archive ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,43 @@
+// k6 run -e BASE_URL=http://localhost:8104 -e TOKEN=<access token> -e TUITION_CLASS_ID=<id> load/student-write.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const baseUrl = __ENV.BASE_URL || 'http://localhost:8104';
+const headers = {
+    'Content-Type': 'application/json',
+    'access_token': __ENV.TOKEN,
+};
+
+export const options = {
+    scenarios: {
+        writes: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 2000),
+            duration: __ENV.DURATION || '3m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const body = JSON.stringify({
+        firstName: `Load${__VU}x${__ITER}`,
+        lastName: `Run${Date.now()}`,
+        address: 'Jaffna',
+        gender: 'Male',
+        age: 17,
+        phoneNumber: 770000000 + (__VU * 10000 + __ITER) % 10000000,
+        grade: 12,
+        tuitionClassId: __ENV.TUITION_CLASS_ID,
+    });
+    const created = http.post(`${baseUrl}/student/api/v1/student`, body, { headers, tags: { name: 'create' } });
+    check(created, { 'student created': (response) => response.status === 201 });
+    if (created.status === 201) {
+        const studentId = created.json('data.studentId');
+        const read = http.get(`${baseUrl}/student/api/v1/student/${studentId}`, { headers, tags: { name: 'read' } });
+        check(read, { 'student read': (response) => response.status === 200 });
+    }
+}
@@ -0,0 +1,44 @@
+package com.cms.student.benchmark;
+
+import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.request.StudentRequestDto;
+import com.cms.student.domain.response.StudentResponseDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Sample data shared by the benchmarks
+ */
+final class BenchmarkFixtures {
+    static final String TUITION_CLASS_ID = "tid-1";
+
+    private BenchmarkFixtures() {
+    }
+
+    static StudentRequestDto studentRequestDto(int index) {
+        StudentRequestDto studentRequestDto = new StudentRequestDto();
+        studentRequestDto.setFirstName("First" + index);
+        studentRequestDto.setLastName("Last" + index);
+        studentRequestDto.setAddress("No " + index + ", Main Street, Jaffna");
+        studentRequestDto.setGender("Male");
+        studentRequestDto.setAge(16);
+        studentRequestDto.setGrade(11);
+        studentRequestDto.setPhoneNumber(771234567);
+        studentRequestDto.setTuitionClassId(TUITION_CLASS_ID);
+        return studentRequestDto;
+    }
+
+    static List<Student> students(int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(new Student(studentRequestDto(i)));
+        }
+        return students;
+    }
+
+    static List<StudentResponseDto> studentResponses(int count) {
+        return students(count).stream().map(StudentResponseDto::new).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,86 @@
+package com.cms.student.benchmark;
+
+import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.page.CursorPage;
+import com.cms.student.domain.request.StudentRequestDto;
+import com.cms.student.domain.response.StudentListResponseDto;
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.enums.SuccessResponseStatus;
+import com.cms.student.wrapper.SuccessResponseWrapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the json conversions done for logging and for the response envelope. The shared mapper benchmarks are
+ * the baseline for the methods which create a new ObjectMapper on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StudentRequestDto studentRequestDto;
+    private StudentResponseDto studentResponseDto;
+    private SuccessResponseWrapper studentEnvelope;
+    private SuccessResponseWrapper studentListEnvelope;
+
+    @Setup
+    public void setUp() {
+        Student student = BenchmarkFixtures.students(1).get(0);
+        studentRequestDto = BenchmarkFixtures.studentRequestDto(0);
+        studentResponseDto = new StudentResponseDto(student);
+        studentEnvelope = new SuccessResponseWrapper(SuccessResponseStatus.READ_STUDENT, studentResponseDto,
+                HttpStatus.OK);
+        var studentsPage = new CursorPage<>(BenchmarkFixtures.studentResponses(PAGE_SIZE), "next");
+        studentListEnvelope = new SuccessResponseWrapper(SuccessResponseStatus.READ_STUDENT_LIST,
+                new StudentListResponseDto(studentsPage), HttpStatus.OK);
+    }
+
+    @Benchmark
+    public String requestDtoToJson() {
+        return studentRequestDto.toJson();
+    }
+
+    @Benchmark
+    public String requestDtoSharedMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(studentRequestDto);
+    }
+
+    @Benchmark
+    public String responseDtoToLogJson() {
+        return studentResponseDto.toLogJson();
+    }
+
+    @Benchmark
+    public String responseDtoSharedMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(studentResponseDto);
+    }
+
+    @Benchmark
+    public byte[] studentEnvelope() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(studentEnvelope);
+    }
+
+    @Benchmark
+    public byte[] studentListEnvelope() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(studentListEnvelope);
+    }
+}
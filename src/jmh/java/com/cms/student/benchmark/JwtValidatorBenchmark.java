@@ -0,0 +1,88 @@
+package com.cms.student.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.cms.student.configuration.JwtValidator;
+import com.cms.student.utills.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the jwt filter for a token seen before and for a token which has to be verified. The uncached case
+ * rotates over more distinct tokens than its validator keeps, so nearly every call verifies the signature.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidatorBenchmark {
+    private static final String KEY = "accessKey";
+    private static final String STUDENT_URL = "/api/v1/student";
+    private static final int DISTINCT_TOKENS = 4096;
+
+    private JwtValidator cachingJwtValidator;
+    private JwtValidator verifyingJwtValidator;
+    private String[] tokens;
+    private int nextToken;
+
+    @Setup
+    public void setUp() {
+        cachingJwtValidator = new JwtValidator(KEY, 10_000, Duration.ofMinutes(5));
+        verifyingJwtValidator = new JwtValidator(KEY, 1, Duration.ofMinutes(5));
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+        tokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            tokens[i] = JWT.create()
+                    .withClaim("username", "user" + i)
+                    .withClaim("authorities", List.of("ADMIN"))
+                    .withExpiresAt(expiresAt)
+                    .sign(Algorithm.HMAC256(KEY));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object cachedToken() throws ServletException, IOException {
+        return filter(cachingJwtValidator, tokens[0]);
+    }
+
+    @Benchmark
+    public Object uncachedToken() throws ServletException, IOException {
+        nextToken = (nextToken + 1) % DISTINCT_TOKENS;
+        return filter(verifyingJwtValidator, tokens[nextToken]);
+    }
+
+    private Object filter(JwtValidator jwtValidator, String token) throws ServletException, IOException {
+        var request = new MockHttpServletRequest("GET", STUDENT_URL);
+        request.setServletPath(STUDENT_URL);
+        request.addHeader(Constants.TOKEN_HEADER, token);
+        jwtValidator.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
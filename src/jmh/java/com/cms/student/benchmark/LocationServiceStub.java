@@ -0,0 +1,90 @@
+package com.cms.student.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Local stand in of the tuition class location service. Every request waits the given latency, the locations
+ * whose id starts with "missing" do not exist. Besides the single lookup it serves the bulk lookup which gives the
+ * existing ids of the posted id list.
+ */
+final class LocationServiceStub implements AutoCloseable {
+    static final String GET_LOCATION_PATH = "/tuition/api/v1/tuition/##LOCATION-ID##";
+    static final String GET_LOCATIONS_PATH = "/tuition/api/v1/tuition/exists";
+    private static final String LOCATION_PATH_PREFIX = "/tuition/api/v1/tuition/";
+    private static final String MISSING_LOCATION_PREFIX = "missing";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+
+    LocationServiceStub(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext(LOCATION_PATH_PREFIX, this::handle);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+            String path = exchange.getRequestURI().getPath();
+            if (GET_LOCATIONS_PATH.equals(path) && "POST".equals(exchange.getRequestMethod())) {
+                String[] ids = objectMapper.readValue(exchange.getRequestBody(), String[].class);
+                List<String> existingIds = Arrays.stream(ids).filter(id -> !id.startsWith(MISSING_LOCATION_PREFIX))
+                        .collect(Collectors.toList());
+                respond(exchange, 200, existingIds);
+                return;
+            }
+            String id = path.substring(LOCATION_PATH_PREFIX.length());
+            if (id.startsWith(MISSING_LOCATION_PREFIX)) {
+                respond(exchange, 400, null);
+                return;
+            }
+            respond(exchange, 200, Map.of("locationId", id));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int statusCode, Object data) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", statusCode == 200 ? "Location retrieved successfully" : "Location not exists");
+        body.put("statusCode", statusCode);
+        body.put("data", data);
+        byte[] response = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,83 @@
+package com.cms.student.benchmark;
+
+import com.cms.student.service.LocationService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput of the location validations of distinct tuition classes against the local location service stub,
+ * validated one by one, in batches fanned out to single lookups and in batches checked with one bulk request.
+ * Nothing is cached, so every validation reaches the stub.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class LocationValidationBenchmark {
+    private static final String TOKEN = "token";
+    private static final long STUB_LATENCY_MILLIS = 5;
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final int MAX_CONNECTIONS = 200;
+
+    @Param({"single", "fanOut", "bulk"})
+    private String mode;
+
+    private LocationServiceStub locationServiceStub;
+    private CloseableHttpClient httpClient;
+    private LocationService locationService;
+    private final AtomicLong nextLocation = new AtomicLong();
+
+    @Setup
+    public void setUp() throws IOException {
+        locationServiceStub = new LocationServiceStub(STUB_LATENCY_MILLIS);
+        httpClient = HttpClients.custom().setMaxConnTotal(MAX_CONNECTIONS).setMaxConnPerRoute(MAX_CONNECTIONS).build();
+        var restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        var bulkhead = Bulkhead.of("benchmark", BulkheadConfig.custom().maxConcurrentCalls(MAX_CONNECTIONS).build());
+        locationService = new LocationService(restTemplate,
+                Caffeine.newBuilder().maximumSize(0).executor(Runnable::run).build(), new SimpleMeterRegistry(),
+                CircuitBreaker.ofDefaults("benchmark"), bulkhead, TIMEOUT_MILLIS, "single".equals(mode) ? 0 : 5,
+                50, 16, 1000, locationServiceStub.baseUrl(), LocationServiceStub.GET_LOCATION_PATH,
+                "bulk".equals(mode) ? LocationServiceStub.GET_LOCATIONS_PATH : "");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        locationService.shutdown();
+        httpClient.close();
+        locationServiceStub.close();
+    }
+
+    @Benchmark
+    public String validateLocation() {
+        String tuitionClassId = "tid-" + nextLocation.incrementAndGet();
+        locationService.validateLocation(tuitionClassId, TOKEN);
+        return tuitionClassId;
+    }
+}
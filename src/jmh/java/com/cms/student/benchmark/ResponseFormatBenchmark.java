@@ -0,0 +1,84 @@
+package com.cms.student.benchmark;
+
+import com.cms.student.configuration.MessageConverterConfiguration;
+import com.cms.student.domain.page.CursorPage;
+import com.cms.student.domain.response.StudentListResponseDto;
+import com.cms.student.enums.SuccessResponseStatus;
+import com.cms.student.wrapper.SuccessResponseWrapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encode time of the student list response in the json, smile and cbor formats, written plain or gzip compressed
+ * as the server compression does. The payload size of every combination is printed once in the setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseFormatBenchmark {
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean compressed;
+
+    private ObjectMapper objectMapper;
+    private SuccessResponseWrapper studentListEnvelope;
+
+    @Setup
+    public void setUp() throws IOException {
+        var converters = new MessageConverterConfiguration();
+        switch (format) {
+            case "smile":
+                objectMapper = converters.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder())
+                        .getObjectMapper();
+                break;
+            case "cbor":
+                objectMapper = converters.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder())
+                        .getObjectMapper();
+                break;
+            default:
+                objectMapper = new Jackson2ObjectMapperBuilder().build();
+        }
+        var studentsPage = new CursorPage<>(BenchmarkFixtures.studentResponses(pageSize), "next");
+        studentListEnvelope = new SuccessResponseWrapper(SuccessResponseStatus.READ_STUDENT_LIST,
+                new StudentListResponseDto(studentsPage), HttpStatus.OK);
+        System.out.printf("%n%s page of %d students, compressed %s: %d bytes%n", format, pageSize, compressed,
+                encode().length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (!compressed) {
+            return objectMapper.writeValueAsBytes(studentListEnvelope);
+        }
+        var outputStream = new ByteArrayOutputStream();
+        try (var gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            objectMapper.writeValue(gzipOutputStream, studentListEnvelope);
+        }
+        return outputStream.toByteArray();
+    }
+}
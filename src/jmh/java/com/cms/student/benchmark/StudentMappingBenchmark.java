@@ -0,0 +1,64 @@
+package com.cms.student.benchmark;
+
+import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.page.CursorPage;
+import com.cms.student.domain.response.StudentListResponseDto;
+import com.cms.student.domain.response.StudentResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cost of mapping the student entities to the response dtos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentMappingBenchmark {
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        student = BenchmarkFixtures.students(1).get(0);
+    }
+
+    @Benchmark
+    public StudentResponseDto studentResponseDto() {
+        return new StudentResponseDto(student);
+    }
+
+    @Benchmark
+    public StudentListResponseDto studentListResponseDto(StudentPage studentPage) {
+        List<StudentResponseDto> studentResponses = studentPage.students.stream().map(StudentResponseDto::new)
+                .collect(Collectors.toList());
+        return new StudentListResponseDto(new CursorPage<>(studentResponses, "next"));
+    }
+
+    @State(Scope.Benchmark)
+    public static class StudentPage {
+        @Param({"100", "1000", "10000"})
+        private int studentCount;
+
+        private List<Student> students;
+
+        @Setup
+        public void setUp() {
+            students = BenchmarkFixtures.students(studentCount);
+        }
+    }
+}
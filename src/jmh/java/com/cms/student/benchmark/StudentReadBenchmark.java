@@ -0,0 +1,103 @@
+package com.cms.student.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.page.CursorPage;
+import com.cms.student.domain.response.StudentListResponseDto;
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.repository.StudentRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cost of reading a student list page as managed entities which are copied to the response dtos, compared to the
+ * projection query which creates the response dtos directly. The students are kept in an in-memory H2 database,
+ * so the difference is the hydration, snapshot and mapping work of the service. Run with the gc profiler to see
+ * the allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentReadBenchmark {
+    private static final String ENTITY_PAGE_QUERY =
+            "SELECT s FROM Student s WHERE s.isDeleted = false ORDER BY s.updatedAt, s.studentId";
+
+    @Param({"100", "10000"})
+    private int studentCount;
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private StudentRepository studentRepository;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        var factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new DriverManagerDataSource(
+                "jdbc:h2:mem:students-" + studentCount + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+        factoryBean.setPackagesToScan(Student.class.getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create",
+                "hibernate.dialect", "org.hibernate.dialect.H2Dialect"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        BenchmarkFixtures.students(studentCount).forEach(entityManager::persist);
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+        studentRepository = new JpaRepositoryFactory(entityManager).getRepository(StudentRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public StudentListResponseDto entityPage() {
+        List<Student> students = entityManager.createQuery(ENTITY_PAGE_QUERY, Student.class)
+                .setMaxResults(studentCount)
+                .getResultList();
+        List<StudentResponseDto> studentResponses = students.stream().map(StudentResponseDto::new)
+                .collect(Collectors.toList());
+        entityManager.clear();
+        return new StudentListResponseDto(new CursorPage<>(studentResponses, null));
+    }
+
+    @Benchmark
+    public StudentListResponseDto projectionPage() {
+        List<StudentResponseDto> studentResponses = studentRepository.findFirstPage(PageRequest.of(0, studentCount))
+                .getContent();
+        entityManager.clear();
+        return new StudentListResponseDto(new CursorPage<>(studentResponses, null));
+    }
+}
@@ -0,0 +1,122 @@
+package com.cms.student.configuration;
+
+import com.cms.student.domain.cache.CachedStudent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class CacheConfiguration {
+    public static final String LOCATION_VALIDATION_CACHE = "locationValidation";
+    public static final String STUDENT_CACHE = "student";
+    public static final String STUDENT_COUNT_CACHE = "studentCount";
+
+    /**
+     * This method creates the tuition class location validation cache. Valid locations are kept for the ttl and
+     * invalid locations are kept only for the shorter negative ttl.
+     *
+     * @param maxSize            maximum number of cached locations
+     * @param ttlSeconds         time to live of a valid location
+     * @param negativeTtlSeconds time to live of an invalid location
+     * @param meterRegistry      meter registry for hit, miss and eviction metrics
+     * @return LocationValidationCache
+     */
+    @Bean
+    public Cache<String, Boolean> locationValidationCache(@Value("${location.cache.max-size:1000}") long maxSize,
+                                                          @Value("${location.cache.ttl-seconds:300}") long ttlSeconds,
+                                                          @Value("${location.cache.negative-ttl-seconds:30}")
+                                                          long negativeTtlSeconds,
+                                                          ObjectProvider<MeterRegistry> meterRegistry) {
+        Cache<String, Boolean> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new LocationValidityExpiry(TimeUnit.SECONDS.toNanos(ttlSeconds),
+                        TimeUnit.SECONDS.toNanos(negativeTtlSeconds)))
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, LOCATION_VALIDATION_CACHE));
+        return cache;
+    }
+
+    /**
+     * This method creates the student cache of the get student by id requests. The entries are removed by the
+     * student updates and deletes, the ttl bounds the staleness of changes made by other instances. It is an async
+     * cache so a miss is loaded outside of the cache lock, see AsyncCaches.
+     *
+     * @param maxSize       maximum number of cached students
+     * @param ttlSeconds    time to live of a student
+     * @param meterRegistry meter registry for hit, miss and eviction metrics
+     * @return StudentCache
+     */
+    @Bean
+    public AsyncCache<String, CachedStudent> studentCache(@Value("${student.cache.max-size:10000}") long maxSize,
+                                                     @Value("${student.cache.ttl-seconds:300}") long ttlSeconds,
+                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        AsyncCache<String, CachedStudent> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, STUDENT_CACHE));
+        return cache;
+    }
+
+    /**
+     * This method creates the student count cache by filter. The counts are not removed by the changes, the ttl
+     * bounds how old a returned count can be.
+     *
+     * @param maxSize       maximum number of cached filters
+     * @param ttlSeconds    time to live of a count
+     * @param meterRegistry meter registry for hit, miss and eviction metrics
+     * @return StudentCountCache
+     */
+    @Bean
+    public AsyncCache<String, Long> studentCountCache(@Value("${student.count.cache.max-size:1000}") long maxSize,
+                                                 @Value("${student.count.cache.ttl-seconds:60}") long ttlSeconds,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        AsyncCache<String, Long> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, STUDENT_COUNT_CACHE));
+        return cache;
+    }
+
+    /**
+     * Expires valid and invalid locations after their own ttl, reads do not extend the lifetime
+     */
+    static class LocationValidityExpiry implements Expiry<String, Boolean> {
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        LocationValidityExpiry(long ttlNanos, long negativeTtlNanos) {
+            this.ttlNanos = ttlNanos;
+            this.negativeTtlNanos = negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String tuitionClassId, Boolean valid, long currentTime) {
+            return Boolean.TRUE.equals(valid) ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String tuitionClassId, Boolean valid, long currentTime, long currentDuration) {
+            return expireAfterCreate(tuitionClassId, valid, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tuitionClassId, Boolean valid, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -5,11 +5,16 @@ import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.cms.student.utills.Constants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
@@ -17,29 +22,58 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public class JwtValidator extends OncePerRequestFilter {
-    private final String key;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final long DEFAULT_CACHE_MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_CACHE_MAX_TTL = Duration.ofMinutes(5);
+    private static final Set<String> WHITE_LIST = Set.of("/v2/api-docs", "/swagger-resources", "/swagger-ui/",
+            "/swagger-ui/springfox.css", "/swagger-ui/swagger-ui-bundle.js", "/swagger-ui/swagger-ui.css",
+            "/swagger-resources/configuration/security", "/swagger-resources/configuration/ui",
+            "/swagger-ui/springfox.js", "/swagger-ui/swagger-ui-standalone-preset.js", "/swagger-ui/favicon-32x32.png",
+            "/actuator/health");
+    private final RequestMatcher permittedRequests;
+    private final JWTVerifier jwtVerifier;
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
 
     public JwtValidator(@Value("${security.key}")String key) {
-        this.key = key;
+        this(key, DEFAULT_CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_TTL);
+    }
+
+    public JwtValidator(String key, long cacheMaxSize, Duration cacheMaxTtl) {
+        this(key, cacheMaxSize, cacheMaxTtl, request -> false);
+    }
+
+    public JwtValidator(String key, long cacheMaxSize, Duration cacheMaxTtl, RequestMatcher permittedRequests) {
+        this.permittedRequests = permittedRequests;
+        this.jwtVerifier = JWT.require(Algorithm.HMAC256(key)).build();
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new VerifiedTokenExpiry(cacheMaxTtl.toNanos()))
+                .build();
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, FilterChain filterChain) throws ServletException, IOException {
         String jwtToken = httpServletRequest.getHeader(Constants.TOKEN_HEADER);
         if (jwtToken != null) {
-            JWTVerifier jwtVerifier = JWT.require(Algorithm.HMAC256(key)).build();
-            DecodedJWT decodedJWT = jwtVerifier.verify(jwtToken);
-            String userName = decodedJWT.getClaim("username").toString();
-            var roles = decodedJWT.getClaim("authorities").asList(String.class);
-            List<SimpleGrantedAuthority> authorityList = roles.stream().map(SimpleGrantedAuthority::new)
-                    .collect(Collectors.toList());
-            SecurityContextHolder.getContext()
-                    .setAuthentication(new UsernamePasswordAuthenticationToken(userName, null, authorityList));
+            String tokenDigest = digest(jwtToken);
+            VerifiedToken verifiedToken = verifiedTokenCache.getIfPresent(tokenDigest);
+            if (verifiedToken == null) {
+                verifiedToken = verify(jwtToken);
+                verifiedTokenCache.put(tokenDigest, verifiedToken);
+            }
+            SecurityContextHolder.getContext().setAuthentication(verifiedToken.getAuthentication());
         } else {
             throw new BadCredentialsException("Invalid JWT token");
         }
@@ -48,12 +82,84 @@ public class JwtValidator extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String[] requests = {"/v2/api-docs", "/swagger-resources", "/swagger-ui/", "/swagger-ui/springfox.css",
-                "/swagger-ui/swagger-ui-bundle.js", "/swagger-ui/swagger-ui.css",
-                "/swagger-resources/configuration/security", "/swagger-resources/configuration/ui",
-                "/swagger-ui/springfox.js", "/swagger-ui/swagger-ui-standalone-preset.js", "/swagger-ui/favicon-32x32.png"
-        };
-        List<String> requestList = Arrays.asList(requests);
-        return requestList.contains(request.getServletPath());
+        return WHITE_LIST.contains(request.getServletPath()) || permittedRequests.matches(request);
+    }
+
+    /**
+     * This method verify the token signature and claims and creates the authentication
+     *
+     * @param jwtToken jwt token
+     * @return VerifiedToken
+     */
+    private VerifiedToken verify(String jwtToken) {
+        DecodedJWT decodedJWT = jwtVerifier.verify(jwtToken);
+        String userName = decodedJWT.getClaim("username").toString();
+        var roles = decodedJWT.getClaim("authorities").asList(String.class);
+        List<SimpleGrantedAuthority> authorityList = roles.stream().map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        Date expiresAt = decodedJWT.getExpiresAt();
+        return new VerifiedToken(new UsernamePasswordAuthenticationToken(userName, null, authorityList),
+                expiresAt == null ? Long.MAX_VALUE : expiresAt.getTime());
+    }
+
+    /**
+     * This method creates the cache key, the raw token is not kept in memory
+     *
+     * @param jwtToken jwt token
+     * @return TokenDigest
+     */
+    private String digest(String jwtToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(jwtToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("The token digest algorithm is not available", e);
+        }
+    }
+
+    private static class VerifiedToken {
+        private final Authentication authentication;
+        private final long expiresAt;
+
+        VerifiedToken(Authentication authentication, long expiresAt) {
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+        }
+
+        Authentication getAuthentication() {
+            return authentication;
+        }
+    }
+
+    /**
+     * Expires the verified token at its exp claim, bounded by the maximum ttl
+     */
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+        private final long maxTtlNanos;
+
+        VerifiedTokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String tokenDigest, VerifiedToken verifiedToken, long currentTime) {
+            long remainingMillis = verifiedToken.expiresAt - System.currentTimeMillis();
+            if (remainingMillis <= 0) {
+                return 0;
+            }
+            return Math.min(TimeUnit.MILLISECONDS.toNanos(remainingMillis), maxTtlNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenDigest, VerifiedToken verifiedToken, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(tokenDigest, verifiedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenDigest, VerifiedToken verifiedToken, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
     }
 }
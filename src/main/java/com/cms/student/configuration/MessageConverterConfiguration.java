@@ -0,0 +1,44 @@
+package com.cms.student.configuration;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * The responses are written as json by default. Clients which send {@code Accept: application/x-jackson-smile} or
+ * {@code Accept: application/cbor} get the same response in the binary format. The converters replace the default
+ * ones at the same position after the json converter, so json stays the format when any type is accepted.
+ */
+@Configuration
+public class MessageConverterConfiguration {
+
+    /**
+     * This method creates the smile converter with the same mapper settings as the json converter
+     *
+     * @param objectMapperBuilder object mapper builder configured by spring.jackson properties
+     * @return MappingJackson2SmileHttpMessageConverter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory())
+                .build());
+    }
+
+    /**
+     * This method creates the cbor converter with the same mapper settings as the json converter
+     *
+     * @param objectMapperBuilder object mapper builder configured by spring.jackson properties
+     * @return MappingJackson2CborHttpMessageConverter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.factory(new CBORFactory())
+                .build());
+    }
+}
@@ -0,0 +1,88 @@
+package com.cms.student.configuration;
+
+import com.cms.student.exception.ConnectionException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+
+@Configuration
+public class ResilienceConfiguration {
+    public static final String LOCATION_SERVICE = "locationService";
+
+    /**
+     * This method creates the circuit breaker of the location service calls. It opens when too many of the recent
+     * calls failed or were slow, and while it is open the calls are rejected without reaching the location service.
+     *
+     * @param failureRateThreshold   failed calls percentage which opens the breaker
+     * @param slowCallRateThreshold  slow calls percentage which opens the breaker
+     * @param slowCallDurationMillis duration from which a call is slow
+     * @param slidingWindowSize      number of recent calls the rates are calculated on
+     * @param minimumNumberOfCalls   calls needed before the rates are calculated
+     * @param waitInOpenStateMillis  time the breaker stays open before trial calls are let through
+     * @param callsInHalfOpenState   trial calls deciding whether the breaker closes again
+     * @param meterRegistry          meter registry for state, call and rejection metrics
+     * @return CircuitBreaker
+     */
+    @Bean
+    public CircuitBreaker locationCircuitBreaker(
+            @Value("${location.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${location.circuit-breaker.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+            @Value("${location.circuit-breaker.slow-call-duration-millis:1000}") long slowCallDurationMillis,
+            @Value("${location.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+            @Value("${location.circuit-breaker.minimum-number-of-calls:20}") int minimumNumberOfCalls,
+            @Value("${location.circuit-breaker.wait-in-open-state-millis:10000}") long waitInOpenStateMillis,
+            @Value("${location.circuit-breaker.calls-in-half-open-state:5}") int callsInHalfOpenState,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        var config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMillis))
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(waitInOpenStateMillis))
+                .permittedNumberOfCallsInHalfOpenState(callsInHalfOpenState)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordExceptions(ConnectionException.class, HttpServerErrorException.class)
+                .build();
+        var registry = CircuitBreakerRegistry.of(config);
+        meterRegistry.ifAvailable(meters -> TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry)
+                .bindTo(meters));
+        return registry.circuitBreaker(LOCATION_SERVICE);
+    }
+
+    /**
+     * This method creates the bulkhead which bounds the concurrent location service calls. A call which can not
+     * get a permit within the wait time is rejected instead of queueing on the http connection pool.
+     *
+     * @param maxConcurrentCalls maximum concurrent calls
+     * @param maxWaitMillis      time a call waits for a permit
+     * @param meterRegistry      meter registry for the available permits
+     * @return Bulkhead
+     */
+    @Bean
+    public Bulkhead locationBulkhead(@Value("${location.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls,
+                                     @Value("${location.bulkhead.max-wait-millis:0}") long maxWaitMillis,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        var config = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMillis))
+                .build();
+        var registry = BulkheadRegistry.of(config);
+        meterRegistry.ifAvailable(meters -> TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meters));
+        return registry.bulkhead(LOCATION_SERVICE);
+    }
+}
@@ -1,13 +1,96 @@
 package com.cms.student.configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class RestTemplateConfig {
+    private static final String POOL_NAME = "inter-service";
+    private static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+
+    /**
+     * This method creates the connection pool shared by the inter service calls
+     *
+     * @param maxTotalConnections    maximum connections of the pool
+     * @param maxConnectionsPerRoute maximum connections to a single service
+     * @param connectionTimeToLive   maximum lifetime of a pooled connection in seconds
+     * @param meterRegistry          meter registry for pool statistics
+     * @return PoolingHttpClientConnectionManager
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpClientConnectionManager(
+            @Value("${location.http.max-total-connections:100}") int maxTotalConnections,
+            @Value("${location.http.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${location.http.connection-time-to-live-seconds:300}") long connectionTimeToLive,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        var connectionManager = new PoolingHttpClientConnectionManager(connectionTimeToLive, TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(maxTotalConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+        meterRegistry.ifAvailable(registry ->
+                new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(registry));
+        return connectionManager;
+    }
+
+    /**
+     * This method creates the pooled http client with keep alive reuse and bounded timeouts. The validator cancels
+     * a lookup at its deadline, but the cancel does not interrupt the socket, so the pool, connect and read
+     * timeouts together must end the call before the deadline or it keeps the thread and the connection after it.
+     * The read timeout bounds every read, not the whole response.
+     *
+     * @param connectionManager        connection manager
+     * @param connectTimeout           connect timeout in milliseconds
+     * @param readTimeout              socket read timeout in milliseconds
+     * @param connectionRequestTimeout timeout to acquire a connection from the pool in milliseconds
+     * @param idleConnectionTimeout    idle time before a connection is evicted in seconds
+     * @param validationTimeout        deadline of the student validations in milliseconds
+     * @return CloseableHttpClient
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+                                          @Value("${location.http.connect-timeout-millis:1000}") int connectTimeout,
+                                          @Value("${location.http.read-timeout-millis:3000}") int readTimeout,
+                                          @Value("${location.http.connection-request-timeout-millis:500}")
+                                          int connectionRequestTimeout,
+                                          @Value("${location.http.idle-connection-timeout-seconds:30}")
+                                          long idleConnectionTimeout,
+                                          @Value("${student.validation.timeout-millis:5000}")
+                                          long validationTimeout) {
+        long callTimeout = (long) connectionRequestTimeout + connectTimeout + readTimeout;
+        if (callTimeout >= validationTimeout) {
+            throw new IllegalStateException("The location.http connection request, connect and read timeouts add up to "
+                    + callTimeout + " ms, they must be below student.validation.timeout-millis " + validationTimeout
+                    + " ms");
+        }
+        var requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleConnectionTimeout, TimeUnit.SECONDS)
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient httpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
     }
 }
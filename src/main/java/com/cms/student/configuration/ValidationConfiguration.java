@@ -0,0 +1,44 @@
+package com.cms.student.configuration;
+
+import com.cms.student.utills.ConcurrentValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registered as an auto-configuration, so it is processed after the application configurations and the pooled
+ * validator is created only when no other validator is defined
+ */
+@AutoConfiguration
+public class ValidationConfiguration {
+    private static final String THREAD_NAME_PREFIX = "validation-";
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * This method creates the validator which runs the student validations on a bounded pool. When the pool and
+     * its queue are full the request thread runs the validation itself. The java21 build defines a virtual thread
+     * validator instead when student.virtual-threads.enabled is true, any other build keeps this one.
+     *
+     * @param poolSize      maximum validation threads
+     * @param queueCapacity maximum queued validations
+     * @param timeoutMillis overall deadline of the validations
+     * @return ConcurrentValidator
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(ConcurrentValidator.class)
+    public ConcurrentValidator concurrentValidator(@Value("${student.validation.pool-size:32}") int poolSize,
+                                                   @Value("${student.validation.queue-capacity:200}") int queueCapacity,
+                                                   @Value("${student.validation.timeout-millis:5000}") long timeoutMillis) {
+        var executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return new ConcurrentValidator(executor, timeoutMillis);
+    }
+}
@@ -7,27 +7,53 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.time.Duration;
 
 @EnableWebSecurity
 @Configuration
 public class WebSecurityConfiguration {
     private final String key;
+    private final long tokenCacheMaxSize;
+    private final long tokenCacheMaxTtlSeconds;
+    private static final String PROMETHEUS_PATH = "/actuator/prometheus";
     private static final String[] AUTH_WHITE_LIST = {
             "/v3/api-docs/**",
             "/swagger-ui/**",
             "/v2/api-docs/**",
-            "/swagger-resources/**"
+            "/swagger-resources/**",
+            "/actuator/health"
     };
 
-    public WebSecurityConfiguration(@Value("${security.key}") String key) {
+    public WebSecurityConfiguration(@Value("${security.key}") String key,
+                                    @Value("${security.token-cache.max-size:10000}") long tokenCacheMaxSize,
+                                    @Value("${security.token-cache.max-ttl-seconds:300}") long tokenCacheMaxTtlSeconds) {
         this.key = key;
+        this.tokenCacheMaxSize = tokenCacheMaxSize;
+        this.tokenCacheMaxTtlSeconds = tokenCacheMaxTtlSeconds;
     }
 
+    /**
+     * This method creates the security filter chain. The prometheus endpoint is scraped without a token only on the
+     * management port, which is not exposed outside the cluster; on the application port it needs a token.
+     *
+     * @param http                         http security
+     * @param managementPortRequestMatcher matcher of the requests on the management port
+     * @return SecurityFilterChain
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        http.addFilterBefore(new JwtValidator(key), BasicAuthenticationFilter.class)
+    public SecurityFilterChain filterChain(HttpSecurity http, ManagementPortRequestMatcher managementPortRequestMatcher)
+            throws Exception {
+        var prometheusScrape = new AndRequestMatcher(managementPortRequestMatcher,
+                new AntPathRequestMatcher(PROMETHEUS_PATH));
+        var jwtValidator = new JwtValidator(key, tokenCacheMaxSize, Duration.ofSeconds(tokenCacheMaxTtlSeconds),
+                prometheusScrape);
+        http.addFilterBefore(jwtValidator, BasicAuthenticationFilter.class)
                 .csrf().disable()
                 .authorizeRequests().antMatchers(AUTH_WHITE_LIST).permitAll()
+                .requestMatchers(prometheusScrape).permitAll()
                 .anyRequest().authenticated().and()
                 .formLogin().and()
                 .httpBasic();
@@ -0,0 +1,49 @@
+package com.cms.student.configuration.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes only one of every sample rate debug and trace lines of the same message. The lines are counted by their
+ * message pattern, so a hot log statement is thinned without hiding the rare ones. Lines whose level is not
+ * enabled are left to the normal level check.
+ */
+public class DebugSamplingTurboFilter extends TurboFilter {
+    private static final int MAX_TRACKED_MESSAGES = 1024;
+    private final Map<String, AtomicLong> messageCounters = new ConcurrentHashMap<>();
+    private int sampleRate = 1;
+    private String loggerPrefix = "";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable throwable) {
+        if (sampleRate <= 1 || format == null || level == null || level.isGreaterOrEqual(Level.INFO)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        AtomicLong counter = messageCounters.get(format);
+        if (counter == null) {
+            if (messageCounters.size() >= MAX_TRACKED_MESSAGES) {
+                return FilterReply.NEUTRAL;
+            }
+            counter = messageCounters.computeIfAbsent(format, key -> new AtomicLong());
+        }
+        return counter.getAndIncrement() % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+}
@@ -14,7 +14,7 @@ import org.springframework.http.ResponseEntity;
  */
 public class BaseController {
     /**
-     * This method generate successful response
+     * This method generate successful response. The body is written as json, smile or cbor by the accept header.
      *
      * @param statusMessage success response message
      * @param data          data
@@ -1,32 +1,74 @@
 package com.cms.student.controller;
 
 import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.filter.StudentFilter;
+import com.cms.student.domain.request.DeleteStudentsRequestDto;
+import com.cms.student.domain.request.PatchStudentRequestDto;
 import com.cms.student.domain.request.StudentRequestDto;
 import com.cms.student.domain.request.UpdateStudentRequestDto;
+import com.cms.student.domain.response.BulkStudentResponseDto;
+import com.cms.student.domain.response.DeleteStudentsResponseDto;
+import com.cms.student.domain.response.StudentCountResponseDto;
 import com.cms.student.domain.response.StudentListResponseDto;
 import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.domain.response.StudentSearchResponseDto;
 import com.cms.student.enums.ErrorResponseStatus;
+import com.cms.student.enums.ExportFormat;
 import com.cms.student.enums.SuccessResponseStatus;
+import com.cms.student.exception.StudentException;
+import com.cms.student.service.StudentArchiveService;
+import com.cms.student.service.StudentChangeService;
+import com.cms.student.service.StudentExportService;
+import com.cms.student.service.StudentSearchService;
 import com.cms.student.service.StudentService;
 import com.cms.student.utills.Constants;
+import com.cms.student.utills.LazyJson;
+import com.cms.student.utills.StudentETag;
 import com.cms.student.wrapper.ResponseWrapper;
+import com.cms.student.wrapper.SuccessResponseWrapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.List;
 
 @Slf4j
 @RequestMapping("api/v1/student")
 @RestController
 public class StudentController extends BaseController {
+    private static final String EXPORT_FILE_NAME = "attachment; filename=students.";
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
     private final StudentService studentService;
+    private final StudentExportService studentExportService;
+    private final StudentSearchService studentSearchService;
+    private final StudentArchiveService studentArchiveService;
+    private final StudentChangeService studentChangeService;
+    private final ObjectMapper objectMapper;
+    private final int bulkMaxSize;
 
     @Autowired
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, StudentExportService studentExportService,
+                             StudentSearchService studentSearchService, StudentArchiveService studentArchiveService,
+                             StudentChangeService studentChangeService, ObjectMapper objectMapper,
+                             @Value("${student.bulk.max-size:1000}") int bulkMaxSize) {
         this.studentService = studentService;
+        this.studentExportService = studentExportService;
+        this.studentSearchService = studentSearchService;
+        this.studentArchiveService = studentArchiveService;
+        this.studentChangeService = studentChangeService;
+        this.objectMapper = objectMapper;
+        this.bulkMaxSize = bulkMaxSize;
     }
 
     @PostMapping("")
@@ -35,7 +77,7 @@ public class StudentController extends BaseController {
 
         if (!studentRequestDto.isRequiredAvailable()) {
             log.debug("The required field values {} are missing for create new student",
-                    studentRequestDto.toJson());
+                    LazyJson.of(studentRequestDto::toJson));
             return getErrorResponse(ErrorResponseStatus.MISSING_REQUIRED_FIELDS);
         }
         if (!studentRequestDto.validAge()) {
@@ -49,30 +91,122 @@ public class StudentController extends BaseController {
         return getSuccessResponse(SuccessResponseStatus.STUDENT_CREATED, responseDto, HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<ResponseWrapper> createStudents(@RequestBody List<StudentRequestDto> studentRequestDtoList,
+                                                          HttpServletRequest request) {
+
+        if (studentRequestDtoList.isEmpty() || studentRequestDtoList.size() > bulkMaxSize) {
+            log.debug("The invalid number of students {} is given to create students in bulk",
+                    studentRequestDtoList.size());
+            return getErrorResponse(ErrorResponseStatus.INVALID_BULK_SIZE);
+        }
+        String authToken = request.getHeader(Constants.TOKEN_HEADER);
+        var results = studentService.createStudents(studentRequestDtoList, authToken);
+        var responseDto = new BulkStudentResponseDto(results);
+        log.debug("The bulk student request is processed. created: {}, failed: {}", responseDto.getCreatedCount(),
+                responseDto.getFailedCount());
+        return getSuccessResponse(SuccessResponseStatus.BULK_STUDENTS_PROCESSED, responseDto, HttpStatus.OK);
+    }
+
     @GetMapping("/{studentId}")
-    public ResponseEntity<ResponseWrapper> getStudentById(@PathVariable String studentId) {
+    public ResponseEntity<Object> getStudentById(@PathVariable String studentId, WebRequest webRequest) {
 
-        var student = studentService.getStudentById(studentId);
-        var responseDto = new StudentResponseDto(student);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null && webRequest.checkNotModified(
+                StudentETag.of(studentId, studentService.getStudentVersion(studentId)))) {
+            log.debug("The student is not modified for student id: {}", studentId);
+            return null;
+        }
+        var cachedStudent = studentService.getCachedStudent(studentId);
         log.debug("The student is retrieved successfully for student id: {}", studentId);
-        return getSuccessResponse(SuccessResponseStatus.READ_STUDENT, responseDto, HttpStatus.OK);
+        if (!prefersJson(webRequest.getHeader(HttpHeaders.ACCEPT))) {
+            var wrapper = new SuccessResponseWrapper(SuccessResponseStatus.READ_STUDENT, cachedStudent.getStudent(),
+                    HttpStatus.OK);
+            return ResponseEntity.ok().eTag(StudentETag.of(cachedStudent.getStudent())).body(wrapper);
+        }
+        byte[] responseBody = cachedStudent.getResponseBody(this::serializeStudentResponse);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                .eTag(StudentETag.of(cachedStudent.getStudent())).body(responseBody);
     }
 
     @GetMapping("")
-    public ResponseEntity<ResponseWrapper> getAllStudents() {
+    public ResponseEntity<ResponseWrapper> getAllStudents(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer page,
+                                                          @RequestParam(required = false) Integer size,
+                                                          @RequestParam(required = false) String tuitionClassId,
+                                                          @RequestParam(required = false) Integer grade,
+                                                          @RequestParam(required = false) String studentStatus,
+                                                          @RequestParam(required = false) String gender,
+                                                          @RequestParam(required = false) Integer phoneNumber,
+                                                          WebRequest webRequest) {
 
-        var studentsPage = studentService.getStudentsPage();
-        var responseDto = new StudentListResponseDto(studentsPage);
+        if (page != null && (page < 0 || cursor != null)) {
+            log.debug("The invalid page {} is given with the cursor {} to get students", page, cursor);
+            return getErrorResponse(ErrorResponseStatus.INVALID_PAGE);
+        }
+        var studentFilter = StudentFilter.of(tuitionClassId, grade, studentStatus, gender, phoneNumber);
+        String eTag = StudentETag.ofList(studentService.getStudentListVersion(), studentFilter, cursor, page, size);
+        if (webRequest.checkNotModified(eTag)) {
+            log.debug("The student list is not modified");
+            return null;
+        }
+        var responseDto = page == null
+                ? new StudentListResponseDto(studentService.getStudentsPage(studentFilter, cursor, size))
+                : new StudentListResponseDto(studentService.getStudentsSlice(studentFilter, page, size));
         log.debug("The retrieving all student details is successful");
         return getSuccessResponse(SuccessResponseStatus.READ_STUDENT_LIST, responseDto, HttpStatus.OK);
     }
 
+    @GetMapping("/count")
+    public ResponseEntity<ResponseWrapper> getStudentCount(@RequestParam(required = false) String tuitionClassId,
+                                                           @RequestParam(required = false) Integer grade,
+                                                           @RequestParam(required = false) String studentStatus,
+                                                           @RequestParam(required = false) String gender,
+                                                           @RequestParam(required = false) Integer phoneNumber) {
+
+        var studentFilter = StudentFilter.of(tuitionClassId, grade, studentStatus, gender, phoneNumber);
+        var responseDto = new StudentCountResponseDto(studentService.getStudentCount(studentFilter));
+        log.debug("The student count {} is retrieved successfully", responseDto.getStudentCount());
+        return getSuccessResponse(SuccessResponseStatus.READ_STUDENT_COUNT, responseDto, HttpStatus.OK);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ResponseWrapper> getStudentChanges(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size) {
+
+        var responseDto = studentChangeService.getStudentChanges(cursor, size);
+        log.debug("The {} student changes are retrieved successfully", responseDto.getChanges().size());
+        return getSuccessResponse(SuccessResponseStatus.READ_STUDENT_CHANGES, responseDto, HttpStatus.OK);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ResponseWrapper> searchStudents(@RequestParam String query,
+                                                          @RequestParam(required = false) Integer size) {
+
+        var students = studentSearchService.searchStudents(query, size);
+        log.debug("The student search is returned {} students", students.size());
+        return getSuccessResponse(SuccessResponseStatus.SEARCH_STUDENTS, new StudentSearchResponseDto(students),
+                HttpStatus.OK);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStudents(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+
+        StreamingResponseBody responseBody = outputStream ->
+                studentExportService.exportStudents(format, outputStream);
+        log.debug("The exporting all student details is started in {} format", format);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, EXPORT_FILE_NAME + format.getExtension())
+                .body(responseBody);
+    }
+
     @PutMapping("")
     public ResponseEntity<ResponseWrapper> updateStudent(@RequestBody UpdateStudentRequestDto updateStudentRequestDto,
                                                          HttpServletRequest request) {
         if (!updateStudentRequestDto.isRequiredAvailable()) {
             log.debug("The updating student is failed by required field values {} are missing for student {}",
-                    updateStudentRequestDto.toJson(), updateStudentRequestDto.getStudentId());
+                    LazyJson.of(updateStudentRequestDto::toJson), updateStudentRequestDto.getStudentId());
             return getErrorResponse(ErrorResponseStatus.MISSING_REQUIRED_FIELDS);
         }
         if (!updateStudentRequestDto.validAge()) {
@@ -87,10 +221,115 @@ public class StudentController extends BaseController {
         return getSuccessResponse(SuccessResponseStatus.STUDENT_UPDATES, responseDto, HttpStatus.OK);
     }
 
+    @PatchMapping("/{studentId}")
+    public ResponseEntity<ResponseWrapper> patchStudent(@PathVariable String studentId,
+                                                        @RequestBody PatchStudentRequestDto patchStudentRequestDto,
+                                                        HttpServletRequest request) {
+        if (!patchStudentRequestDto.isRequiredAvailable()) {
+            log.debug("The patching student is failed by missing version or fields {} for student {}",
+                    LazyJson.of(patchStudentRequestDto::toJson), studentId);
+            return getErrorResponse(ErrorResponseStatus.MISSING_REQUIRED_FIELDS);
+        }
+        if (!patchStudentRequestDto.validAge()) {
+            log.debug("The invalid age {} is given to patch the student: {}", patchStudentRequestDto.getAge(),
+                    studentId);
+            return getErrorResponse(ErrorResponseStatus.INVALID_AGE);
+        }
+        if (!patchStudentRequestDto.validGender()) {
+            log.debug("The invalid gender {} is given to patch the student: {}", patchStudentRequestDto.getGender(),
+                    studentId);
+            return getErrorResponse(ErrorResponseStatus.INVALID_GENDER);
+        }
+        if (!patchStudentRequestDto.validStudentStatus()) {
+            log.debug("The invalid student status {} is given to patch the student: {}",
+                    patchStudentRequestDto.getStudentStatus(), studentId);
+            return getErrorResponse(ErrorResponseStatus.INVALID_STUDENT_STATUS);
+        }
+        patchStudentRequestDto.setStudentId(studentId);
+        String authToken = request.getHeader(Constants.TOKEN_HEADER);
+        var responseDto = studentService.patchStudent(patchStudentRequestDto, authToken);
+        log.debug("The student is patched successfully to version {} for student id: {}", responseDto.getVersion(),
+                studentId);
+        var wrapper = new SuccessResponseWrapper(SuccessResponseStatus.STUDENT_UPDATES, responseDto, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(StudentETag.of(studentId, responseDto.getUpdatedAt())).body(wrapper);
+    }
+
     @DeleteMapping("/{studentId}")
     public ResponseEntity<ResponseWrapper> deleteStudent(@PathVariable String studentId) {
         studentService.deleteStudent(studentId);
         log.debug("The student is deleted successfully for student id: {}", studentId);
         return getSuccessResponse(SuccessResponseStatus.STUDENT_DELETED, null, HttpStatus.OK);
     }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ResponseWrapper> deleteStudents(
+            @RequestBody DeleteStudentsRequestDto deleteStudentsRequestDto) {
+
+        if (!deleteStudentsRequestDto.isRequiredAvailable()) {
+            log.debug("The student ids or the tuition class id {} are required to delete students",
+                    LazyJson.of(deleteStudentsRequestDto::toJson));
+            return getErrorResponse(ErrorResponseStatus.MISSING_REQUIRED_FIELDS);
+        }
+        if (!deleteStudentsRequestDto.isByTuitionClass()
+                && deleteStudentsRequestDto.getStudentIds().size() > bulkMaxSize) {
+            log.debug("The invalid number of students {} is given to delete students in bulk",
+                    deleteStudentsRequestDto.getStudentIds().size());
+            return getErrorResponse(ErrorResponseStatus.INVALID_BULK_SIZE);
+        }
+        var responseDto = new DeleteStudentsResponseDto(studentService.deleteStudents(deleteStudentsRequestDto));
+        log.debug("The {} students are deleted successfully", responseDto.getDeletedCount());
+        return getSuccessResponse(SuccessResponseStatus.BULK_STUDENTS_DELETED, responseDto, HttpStatus.OK);
+    }
+
+    @PostMapping("/{studentId}/restore")
+    public ResponseEntity<ResponseWrapper> restoreStudent(@PathVariable String studentId) {
+        Student student = studentArchiveService.restoreStudent(studentId);
+        var responseDto = new StudentResponseDto(student);
+        log.debug("The student is restored successfully for student id: {}", studentId);
+        return getSuccessResponse(SuccessResponseStatus.STUDENT_RESTORED, responseDto, HttpStatus.OK);
+    }
+
+    /**
+     * This method check whether json is the most preferred of the accepted types which have a converter, a wildcard
+     * or an unknown accept header prefers json. The get student response is kept serialized as json only.
+     *
+     * @param accept accept header
+     * @return true/ false
+     */
+    private static boolean prefersJson(String accept) {
+        if (accept == null) {
+            return true;
+        }
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            MediaType.sortBySpecificityAndQuality(mediaTypes);
+            for (MediaType mediaType : mediaTypes) {
+                if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    return true;
+                }
+                if (mediaType.isCompatibleWith(APPLICATION_SMILE)
+                        || mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                    return false;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            log.debug("The invalid accept header {} is given, the student is sent as json", accept);
+        }
+        return true;
+    }
+
+    /**
+     * This method serialize the get student response, it is kept with the cached student
+     *
+     * @param student student
+     * @return ResponseBody
+     */
+    private byte[] serializeStudentResponse(StudentResponseDto student) {
+        try {
+            var wrapper = new SuccessResponseWrapper(SuccessResponseStatus.READ_STUDENT, student, HttpStatus.OK);
+            return objectMapper.writeValueAsBytes(wrapper);
+        } catch (JsonProcessingException e) {
+            throw new StudentException("Convert object to string is failed", e);
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.cms.student.domain.cache;
+
+import com.cms.student.domain.response.StudentResponseDto;
+
+import java.util.function.Function;
+
+/**
+ * Cache entry of a student with its serialized read response. The student is shared by the readers of the cache,
+ * so it must not be modified.
+ */
+public class CachedStudent {
+    private final StudentResponseDto student;
+    private volatile byte[] responseBody;
+
+    public CachedStudent(StudentResponseDto student) {
+        this.student = student;
+    }
+
+    public StudentResponseDto getStudent() {
+        return student;
+    }
+
+    /**
+     * This method returns the serialized response, it is created on the first read and reused after that
+     *
+     * @param serializer creates the response body of the student
+     * @return ResponseBody
+     */
+    public byte[] getResponseBody(Function<StudentResponseDto, byte[]> serializer) {
+        byte[] body = responseBody;
+        if (body == null) {
+            body = serializer.apply(student);
+            responseBody = body;
+        }
+        return body;
+    }
+}
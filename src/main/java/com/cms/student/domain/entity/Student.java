@@ -4,22 +4,36 @@ import com.cms.student.domain.request.StudentRequestDto;
 import com.cms.student.domain.request.UpdateStudentRequestDto;
 import com.cms.student.enums.Gender;
 import com.cms.student.enums.StudentStatus;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.sql.Date;
+import java.sql.Timestamp;
 import java.util.UUID;
 
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "student")
+@Table(name = "student", indexes = {
+        @Index(name = "idx_student_deleted_updated_at", columnList = "isDeleted, updatedAt, studentId"),
+        @Index(name = "idx_student_updated_at", columnList = "updatedAt, studentId"),
+        @Index(name = "idx_student_deleted_class_updated_at",
+                columnList = "isDeleted, tuitionClassId, updatedAt, studentId"),
+        @Index(name = "idx_student_deleted_grade_updated_at", columnList = "isDeleted, grade, updatedAt, studentId"),
+        @Index(name = "idx_student_deleted_status_updated_at",
+                columnList = "isDeleted, studentStatus, updatedAt, studentId"),
+        @Index(name = "idx_student_phone_number_deleted", columnList = "phoneNumber, isDeleted"),
+        @Index(name = "idx_student_first_name", columnList = "firstName"),
+        @Index(name = "idx_student_last_name", columnList = "lastName")
+})
 @Entity
-public class Student {
+public class Student implements Persistable<String> {
     private static final String PREFIX = "sid-";
     @Id
     @Column(length = 50)
@@ -42,8 +56,15 @@ public class Student {
     @Column(length = 50)
     private String tuitionClassId;
     private Date joinedDate;
-    private Date updatedAt;
+    @Column(columnDefinition = "DATETIME(3)")
+    private Timestamp updatedAt;
     private boolean isDeleted;
+    @Version
+    private long version;
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newStudent;
 
     public Student (StudentRequestDto studentRequestDto) {
         this.studentId = PREFIX + UUID.randomUUID();
@@ -56,8 +77,51 @@ public class Student {
         this.phoneNumber = studentRequestDto.getPhoneNumber();
         this.studentStatus = StudentStatus.valueOf(StudentStatus.COMING.name());
         this.tuitionClassId = studentRequestDto.getTuitionClassId();
-        this.joinedDate = this.updatedAt = new Date(System.currentTimeMillis());
+        long now = System.currentTimeMillis();
+        this.joinedDate = new Date(now);
+        this.updatedAt = new Timestamp(now);
         this.isDeleted = false;
+        this.newStudent = true;
+    }
+
+    public Student(StudentArchive studentArchive) {
+        this.studentId = studentArchive.getStudentId();
+        this.firstName = studentArchive.getFirstName();
+        this.lastName = studentArchive.getLastName();
+        this.address = studentArchive.getAddress();
+        this.gender = studentArchive.getGender();
+        this.age = studentArchive.getAge();
+        this.grade = studentArchive.getGrade();
+        this.phoneNumber = studentArchive.getPhoneNumber();
+        this.studentStatus = studentArchive.getStudentStatus();
+        this.tuitionClassId = studentArchive.getTuitionClassId();
+        this.joinedDate = studentArchive.getJoinedDate();
+        this.updatedAt = new Timestamp(System.currentTimeMillis());
+        this.version = studentArchive.getVersion() + 1;
+        this.isDeleted = false;
+        this.newStudent = true;
+    }
+
+    /**
+     * The student id is assigned by the application, so the new students are persisted without a merge select
+     * and can be written with jdbc batch inserts.
+     *
+     * @return true/ false
+     */
+    @Override
+    public boolean isNew() {
+        return newStudent;
+    }
+
+    @Override
+    public String getId() {
+        return studentId;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newStudent = false;
     }
 
     public void update(UpdateStudentRequestDto updateStudentRequestDto) {
@@ -68,6 +132,20 @@ public class Student {
         this.age = updateStudentRequestDto.getAge();
         this.phoneNumber = updateStudentRequestDto.getPhoneNumber();
         this.tuitionClassId = updateStudentRequestDto.getTuitionClassId();
-        this.updatedAt = new Date(System.currentTimeMillis());
+        this.updatedAt = new Timestamp(System.currentTimeMillis());
+    }
+
+    public void restore() {
+        this.isDeleted = false;
+        this.updatedAt = new Timestamp(System.currentTimeMillis());
+    }
+
+    /**
+     * A new student is created before its name and location are validated, the update time is stamped again when
+     * it is persisted, so the change feed does not read it later than its settle time
+     */
+    @PrePersist
+    void stampUpdatedAt() {
+        this.updatedAt = new Timestamp(System.currentTimeMillis());
     }
 }
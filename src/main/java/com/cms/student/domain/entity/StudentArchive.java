@@ -0,0 +1,52 @@
+package com.cms.student.domain.entity;
+
+import com.cms.student.enums.Gender;
+import com.cms.student.enums.StudentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+/**
+ * Deleted student moved out of the student table after the retention period. The rows are written by the
+ * archive job with a single insert select, the entity is used to read them back for a restore. The version is kept,
+ * a restored student continues after it so a client holding a version from before the delete can not patch it.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "student_archive")
+@Entity
+public class StudentArchive {
+    @Id
+    @Column(length = 50)
+    private String studentId;
+    @Column(length = 50)
+    private String firstName;
+    @Column(length = 50)
+    private String lastName;
+    @Column(length = 100)
+    private String address;
+    @Column(length = 6)
+    @Enumerated(EnumType.STRING)
+    private Gender gender;
+    private int age;
+    private int phoneNumber;
+    private int grade;
+    @Column(length = 6)
+    @Enumerated(EnumType.STRING)
+    private StudentStatus studentStatus;
+    @Column(length = 50)
+    private String tuitionClassId;
+    private Date joinedDate;
+    @Column(columnDefinition = "DATETIME(3)")
+    private Timestamp updatedAt;
+    @Column(columnDefinition = "DATETIME(3)")
+    private Timestamp archivedAt;
+    private long version;
+}
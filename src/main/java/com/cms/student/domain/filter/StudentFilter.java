@@ -0,0 +1,82 @@
+package com.cms.student.domain.filter;
+
+import com.cms.student.enums.Gender;
+import com.cms.student.enums.StudentStatus;
+import com.cms.student.exception.InvalidStudentFilterException;
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * Optional equality filters of the student list, a null field is not filtered
+ */
+@Getter
+public class StudentFilter {
+    private static final StudentFilter EMPTY = new StudentFilter(null, null, null, null, null);
+    private static final String SEPARATOR = "|";
+    private final String tuitionClassId;
+    private final Integer grade;
+    private final StudentStatus studentStatus;
+    private final Gender gender;
+    private final Integer phoneNumber;
+
+    public StudentFilter(String tuitionClassId, Integer grade, StudentStatus studentStatus, Gender gender,
+                         Integer phoneNumber) {
+        this.tuitionClassId = tuitionClassId;
+        this.grade = grade;
+        this.studentStatus = studentStatus;
+        this.gender = gender;
+        this.phoneNumber = phoneNumber;
+    }
+
+    public static StudentFilter empty() {
+        return EMPTY;
+    }
+
+    /**
+     * This method create the filter from the request parameters, the enum values are matched case insensitively
+     *
+     * @param tuitionClassId tuition class id
+     * @param grade          grade
+     * @param studentStatus  student status
+     * @param gender         gender
+     * @param phoneNumber    phone number
+     * @return StudentFilter
+     */
+    public static StudentFilter of(String tuitionClassId, Integer grade, String studentStatus, String gender,
+                                   Integer phoneNumber) {
+        return new StudentFilter(isBlank(tuitionClassId) ? null : tuitionClassId, grade,
+                parse(StudentStatus.class, studentStatus), parse(Gender.class, gender), phoneNumber);
+    }
+
+    public boolean isEmpty() {
+        return tuitionClassId == null && grade == null && studentStatus == null && gender == null
+                && phoneNumber == null;
+    }
+
+    /**
+     * This method create a stable key of the filter values, it is used by the list entity tag
+     *
+     * @return FilterKey
+     */
+    public String toKey() {
+        return tuitionClassId + SEPARATOR + grade + SEPARATOR + studentStatus + SEPARATOR + gender + SEPARATOR
+                + phoneNumber;
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value) {
+        if (isBlank(value)) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidStudentFilterException("The given " + type.getSimpleName() + " filter is invalid: "
+                    + value, e);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,25 @@
+package com.cms.student.domain.page;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One keyset page and the cursor of the following page
+ *
+ * @param <T> content type
+ */
+@Getter
+public class CursorPage<T> {
+    private final List<T> content;
+    private final String nextCursor;
+
+    public CursorPage(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
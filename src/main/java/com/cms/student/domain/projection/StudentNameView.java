@@ -0,0 +1,7 @@
+package com.cms.student.domain.projection;
+
+public interface StudentNameView {
+    String getFirstName();
+
+    String getLastName();
+}
@@ -0,0 +1,29 @@
+package com.cms.student.domain.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+public class DeleteStudentsRequestDto extends RequestDto {
+    private List<String> studentIds;
+    private String tuitionClassId;
+
+    /**
+     * The students are deleted either by their ids or by their tuition class, not both
+     *
+     * @return true/ false
+     */
+    @Override
+    public boolean isRequiredAvailable() {
+        boolean hasStudentIds = studentIds != null && !studentIds.isEmpty()
+                && studentIds.stream().allMatch(this::isNonEmpty);
+        return hasStudentIds != isNonEmpty(tuitionClassId);
+    }
+
+    public boolean isByTuitionClass() {
+        return isNonEmpty(tuitionClassId);
+    }
+}
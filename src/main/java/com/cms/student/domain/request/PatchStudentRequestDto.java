@@ -0,0 +1,68 @@
+package com.cms.student.domain.request;
+
+import com.cms.student.enums.Gender;
+import com.cms.student.enums.StudentStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Partial student update, only the given fields are changed. The version is the version of the student the client
+ * has read.
+ */
+@Setter
+@Getter
+public class PatchStudentRequestDto extends RequestDto {
+    @JsonIgnore
+    private String studentId;
+    private Long version;
+    private String firstName;
+    private String lastName;
+    private String address;
+    private String studentStatus;
+    private String gender;
+    private Integer grade;
+    private Integer age;
+    private Integer phoneNumber;
+    private String tuitionClassId;
+
+    /**
+     * The version and at least one field are required, a given text field must not be blank
+     *
+     * @return true/ false
+     */
+    @Override
+    public boolean isRequiredAvailable() {
+        if (version == null || !hasChanges()) {
+            return false;
+        }
+        return Stream.of(firstName, lastName, address, studentStatus, gender, tuitionClassId)
+                .allMatch(field -> field == null || isNonEmpty(field));
+    }
+
+    public boolean hasChanges() {
+        return Stream.of(firstName, lastName, address, studentStatus, gender, grade, age, phoneNumber, tuitionClassId)
+                .anyMatch(field -> field != null);
+    }
+
+    public boolean isNameChanged() {
+        return firstName != null || lastName != null;
+    }
+
+    public boolean validAge() {
+        return age == null || age > 0;
+    }
+
+    public boolean validGender() {
+        return gender == null
+                || Arrays.stream(Gender.values()).anyMatch(value -> value.name().equalsIgnoreCase(gender));
+    }
+
+    public boolean validStudentStatus() {
+        return studentStatus == null || Arrays.stream(StudentStatus.values())
+                .anyMatch(value -> value.name().equalsIgnoreCase(studentStatus));
+    }
+}
@@ -1,8 +1,11 @@
 package com.cms.student.domain.request;
 
+import com.cms.student.enums.Gender;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Arrays;
+
 @Setter
 @Getter
 public class StudentRequestDto extends RequestDto{
@@ -25,4 +28,8 @@ public class StudentRequestDto extends RequestDto{
     public boolean validAge() {
         return age > 0;
     }
+
+    public boolean validGender() {
+        return Arrays.stream(Gender.values()).anyMatch(value -> value.name().equalsIgnoreCase(gender));
+    }
 }
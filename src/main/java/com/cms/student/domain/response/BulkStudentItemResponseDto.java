@@ -0,0 +1,18 @@
+package com.cms.student.domain.response;
+
+import lombok.Getter;
+
+@Getter
+public class BulkStudentItemResponseDto extends ResponseDto {
+    private final int index;
+    private final boolean created;
+    private final String message;
+    private final StudentResponseDto student;
+
+    public BulkStudentItemResponseDto(int index, boolean created, String message, StudentResponseDto student) {
+        this.index = index;
+        this.created = created;
+        this.message = message;
+        this.student = student;
+    }
+}
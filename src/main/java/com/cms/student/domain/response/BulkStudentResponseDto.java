@@ -0,0 +1,18 @@
+package com.cms.student.domain.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BulkStudentResponseDto extends ResponseDto {
+    private final int createdCount;
+    private final int failedCount;
+    private final List<BulkStudentItemResponseDto> results;
+
+    public BulkStudentResponseDto(List<BulkStudentItemResponseDto> results) {
+        this.results = results;
+        this.createdCount = (int) results.stream().filter(BulkStudentItemResponseDto::isCreated).count();
+        this.failedCount = results.size() - createdCount;
+    }
+}
@@ -0,0 +1,12 @@
+package com.cms.student.domain.response;
+
+import lombok.Getter;
+
+@Getter
+public class DeleteStudentsResponseDto extends ResponseDto {
+    private final int deletedCount;
+
+    public DeleteStudentsResponseDto(int deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+}
@@ -0,0 +1,21 @@
+package com.cms.student.domain.response;
+
+import lombok.Getter;
+
+import java.sql.Timestamp;
+
+/**
+ * Result of a partial student update, the new version is needed for the next update of the student
+ */
+@Getter
+public class PatchStudentResponseDto extends ResponseDto {
+    private final String studentId;
+    private final long version;
+    private final Timestamp updatedAt;
+
+    public PatchStudentResponseDto(String studentId, long version, Timestamp updatedAt) {
+        this.studentId = studentId;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -5,9 +5,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 public abstract class ResponseDto {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     public String toLogJson() {
         try {
-            return new ObjectMapper().writeValueAsString(this);
+            return OBJECT_MAPPER.writeValueAsString(this);
         } catch (JsonProcessingException e) {
             throw new StudentException("Convert object to string is failed", e);
         }
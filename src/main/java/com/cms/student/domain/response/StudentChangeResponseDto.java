@@ -0,0 +1,29 @@
+package com.cms.student.domain.response;
+
+import com.cms.student.enums.StudentChangeType;
+import lombok.Getter;
+
+import java.sql.Timestamp;
+
+/**
+ * One entry of the student change feed, a deleted student is a tombstone without the student details
+ */
+@Getter
+public class StudentChangeResponseDto extends ResponseDto {
+    private final String studentId;
+    private final StudentChangeType changeType;
+    private final Timestamp updatedAt;
+    private final StudentResponseDto student;
+
+    public StudentChangeResponseDto(StudentResponseDto student) {
+        this.studentId = student.getStudentId();
+        this.updatedAt = student.getUpdatedAt();
+        if (student.isDeleted()) {
+            this.changeType = StudentChangeType.DELETED;
+            this.student = null;
+        } else {
+            this.changeType = StudentChangeType.UPSERTED;
+            this.student = student;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.cms.student.domain.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A page of the student change feed. The next cursor is given even when there is no change yet, the consumer
+ * keeps it and polls again with it.
+ */
+@Getter
+public class StudentChangesResponseDto extends ResponseDto {
+    private final List<StudentChangeResponseDto> changes;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public StudentChangesResponseDto(List<StudentChangeResponseDto> changes, String nextCursor, boolean hasNext) {
+        this.changes = changes;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,12 @@
+package com.cms.student.domain.response;
+
+import lombok.Getter;
+
+@Getter
+public class StudentCountResponseDto extends ResponseDto {
+    private final long studentCount;
+
+    public StudentCountResponseDto(long studentCount) {
+        this.studentCount = studentCount;
+    }
+}
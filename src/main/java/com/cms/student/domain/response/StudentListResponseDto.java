@@ -1,21 +1,29 @@
 package com.cms.student.domain.response;
 
-import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.page.CursorPage;
 import lombok.Getter;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 public class StudentListResponseDto extends ResponseDto{
     private final List<StudentResponseDto> students;
+    private final String nextCursor;
+    private final Integer page;
+    private final boolean hasNext;
 
-    public  StudentListResponseDto(Page<Student> studentsPage) {
-        this.students = convertToResponseDto(studentsPage);
+    public  StudentListResponseDto(CursorPage<StudentResponseDto> studentsPage) {
+        this.students = studentsPage.getContent();
+        this.nextCursor = studentsPage.getNextCursor();
+        this.page = null;
+        this.hasNext = studentsPage.hasNext();
     }
 
-    private List<StudentResponseDto> convertToResponseDto(Page<Student> studentsPage) {
-        return studentsPage.stream().map(StudentResponseDto::new).collect(Collectors.toList());
+    public StudentListResponseDto(Slice<StudentResponseDto> studentsSlice) {
+        this.students = studentsSlice.getContent();
+        this.nextCursor = null;
+        this.page = studentsSlice.getNumber();
+        this.hasNext = studentsSlice.hasNext();
     }
 }
@@ -1,10 +1,13 @@
 package com.cms.student.domain.response;
 
 import com.cms.student.domain.entity.Student;
+import com.cms.student.enums.Gender;
+import com.cms.student.enums.StudentStatus;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.sql.Date;
+import java.sql.Timestamp;
 
 @Getter
 @Setter
@@ -20,8 +23,9 @@ public class StudentResponseDto extends ResponseDto {
     private String studentStatus;
     private String tuitionClassId;
     private Date joinedDate;
-    private Date updatedAt;
+    private Timestamp updatedAt;
     private boolean isDeleted;
+    private long version;
 
     public StudentResponseDto(Student student) {
         this.studentId = student.getStudentId();
@@ -34,8 +38,33 @@ public class StudentResponseDto extends ResponseDto {
         this.phoneNumber = student.getPhoneNumber();
         this.studentStatus = student.getStudentStatus().getStatus();
         this.tuitionClassId = student.getTuitionClassId();
-        this.joinedDate = student.getUpdatedAt();
+        this.joinedDate = student.getJoinedDate();
         this.updatedAt = student.getUpdatedAt();
         this.isDeleted = student.isDeleted();
+        this.version = student.getVersion();
+    }
+
+    /**
+     * This constructor is used by the projection queries, the student is read without creating the entity.
+     * Hibernate matches the temporal columns as java.util.Date, so they are converted here.
+     */
+    public StudentResponseDto(String studentId, String firstName, String lastName, String address, Gender gender,
+                              int age, int grade, int phoneNumber, StudentStatus studentStatus,
+                              String tuitionClassId, java.util.Date joinedDate, java.util.Date updatedAt,
+                              boolean isDeleted, long version) {
+        this.studentId = studentId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.address = address;
+        this.gender = gender.getGenderValue();
+        this.age = age;
+        this.grade = grade;
+        this.phoneNumber = phoneNumber;
+        this.studentStatus = studentStatus.getStatus();
+        this.tuitionClassId = tuitionClassId;
+        this.joinedDate = joinedDate == null ? null : new Date(joinedDate.getTime());
+        this.updatedAt = updatedAt == null ? null : new Timestamp(updatedAt.getTime());
+        this.isDeleted = isDeleted;
+        this.version = version;
     }
 }
@@ -0,0 +1,14 @@
+package com.cms.student.domain.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class StudentSearchResponseDto extends ResponseDto {
+    private final List<StudentResponseDto> students;
+
+    public StudentSearchResponseDto(List<StudentResponseDto> students) {
+        this.students = students;
+    }
+}
@@ -10,7 +10,15 @@ public enum ErrorResponseStatus {
     INVALID_AGE("The given age is invalid"),
     INVALID_TUITION_CLASS_LOCATION("The location Id is invalid"),
     INVALID_STUDENT("The student Id is invalid"),
-    STUDENT_ALREADY_EXISTS("The student already exists");
+    STUDENT_ALREADY_EXISTS("The student already exists"),
+    INVALID_CURSOR("The page cursor is invalid"),
+    INVALID_PAGE("The page number is invalid or given with a cursor"),
+    INVALID_STUDENT_FILTER("The student filter is invalid"),
+    INVALID_SEARCH_QUERY("The search query is invalid"),
+    INVALID_GENDER("The given gender is invalid"),
+    INVALID_STUDENT_STATUS("The given student status is invalid"),
+    STUDENT_VERSION_CONFLICT("The student is changed by another request, read it again before updating"),
+    INVALID_BULK_SIZE("The number of students in the bulk request is invalid");
     private final String message;
 
     ErrorResponseStatus(String message) {
@@ -0,0 +1,13 @@
+package com.cms.student.enums;
+
+/**
+ * Outcome tag of the calls made to other services
+ */
+public enum RemoteCallOutcome {
+    OK,
+    BAD_REQUEST,
+    CLIENT_ERROR,
+    SERVER_ERROR,
+    TIMEOUT,
+    CONNECTION_ERROR
+}
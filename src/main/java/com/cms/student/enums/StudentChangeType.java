@@ -0,0 +1,6 @@
+package com.cms.student.enums;
+
+public enum StudentChangeType {
+    UPSERTED,
+    DELETED
+}
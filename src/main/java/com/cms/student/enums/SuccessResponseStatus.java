@@ -7,8 +7,14 @@ public enum SuccessResponseStatus {
     STUDENT_CREATED("The student created successfully"),
     STUDENT_UPDATES("The student updated successfully"),
     READ_STUDENT_LIST("Students details retrieved successfully"),
+    READ_STUDENT_COUNT("Students count retrieved successfully"),
+    READ_STUDENT_CHANGES("Student changes retrieved successfully"),
     STUDENT_DELETED("Student deleted successfully"),
-    READ_STUDENT("Student retrieved successfully");
+    STUDENT_RESTORED("Student restored successfully"),
+    READ_STUDENT("Student retrieved successfully"),
+    SEARCH_STUDENTS("Students searched successfully"),
+    BULK_STUDENTS_PROCESSED("The students bulk request processed successfully"),
+    BULK_STUDENTS_DELETED("The students deleted successfully");
     private final String message;
 
     SuccessResponseStatus(String message) {
@@ -62,6 +62,58 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 exception.getMessage());
         return new ResponseEntity<>(wrapper, HttpStatus.BAD_REQUEST);
     }
+    /**
+     * This method handle invalid cursor exception response
+     *
+     * @param exception invalid cursor exception
+     * @return ErrorResponse/BadRequest
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ResponseWrapper> invalidCursorException(InvalidCursorException exception) {
+        var wrapper = new ErrorResponseWrapper(ErrorResponseStatus.INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+        log.error("The retrieving the students page is failed due to invalid cursor. Error message: {}",
+                exception.getMessage());
+        return new ResponseEntity<>(wrapper, HttpStatus.BAD_REQUEST);
+    }
+    /**
+     * This method handle invalid student filter exception response
+     *
+     * @param exception invalid student filter exception
+     * @return ErrorResponse/BadRequest
+     */
+    @ExceptionHandler(InvalidStudentFilterException.class)
+    public ResponseEntity<ResponseWrapper> invalidStudentFilterException(InvalidStudentFilterException exception) {
+        var wrapper = new ErrorResponseWrapper(ErrorResponseStatus.INVALID_STUDENT_FILTER, HttpStatus.BAD_REQUEST);
+        log.error("The retrieving the students page is failed due to invalid filter. Error message: {}",
+                exception.getMessage());
+        return new ResponseEntity<>(wrapper, HttpStatus.BAD_REQUEST);
+    }
+    /**
+     * This method handle invalid search query exception response
+     *
+     * @param exception invalid search query exception
+     * @return ErrorResponse/BadRequest
+     */
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<ResponseWrapper> invalidSearchQueryException(InvalidSearchQueryException exception) {
+        var wrapper = new ErrorResponseWrapper(ErrorResponseStatus.INVALID_SEARCH_QUERY, HttpStatus.BAD_REQUEST);
+        log.error("The searching students is failed due to invalid query. Error message: {}", exception.getMessage());
+        return new ResponseEntity<>(wrapper, HttpStatus.BAD_REQUEST);
+    }
+    /**
+     * This method handle student version conflict exception response
+     *
+     * @param exception student version conflict exception
+     * @return ErrorResponse/Conflict
+     */
+    @ExceptionHandler(StudentVersionConflictException.class)
+    public ResponseEntity<ResponseWrapper> studentVersionConflictException(
+            StudentVersionConflictException exception) {
+        var wrapper = new ErrorResponseWrapper(ErrorResponseStatus.STUDENT_VERSION_CONFLICT, HttpStatus.CONFLICT);
+        log.error("The updating the student is failed due to a concurrent change. Error message: {}",
+                exception.getMessage());
+        return new ResponseEntity<>(wrapper, HttpStatus.CONFLICT);
+    }
     /**
      * This method handle student exception response
      *
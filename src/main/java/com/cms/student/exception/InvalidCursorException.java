@@ -0,0 +1,11 @@
+package com.cms.student.exception;
+
+public class InvalidCursorException extends StudentException {
+    public InvalidCursorException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    public InvalidCursorException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
@@ -0,0 +1,11 @@
+package com.cms.student.exception;
+
+public class InvalidSearchQueryException extends StudentException {
+    public InvalidSearchQueryException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    public InvalidSearchQueryException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
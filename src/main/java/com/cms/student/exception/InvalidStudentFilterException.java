@@ -0,0 +1,11 @@
+package com.cms.student.exception;
+
+public class InvalidStudentFilterException extends StudentException {
+    public InvalidStudentFilterException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    public InvalidStudentFilterException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
@@ -0,0 +1,11 @@
+package com.cms.student.exception;
+
+public class StudentVersionConflictException extends StudentException {
+    public StudentVersionConflictException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    public StudentVersionConflictException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
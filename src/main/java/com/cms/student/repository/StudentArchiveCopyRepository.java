@@ -0,0 +1,17 @@
+package com.cms.student.repository;
+
+import java.util.Collection;
+
+/**
+ * Copies the deleted students into the archive table
+ */
+public interface StudentArchiveCopyRepository {
+    /**
+     * This method copy the given deleted students into the archive in the database, the rows are not loaded into
+     * the application. An older archive copy of a student deleted again is replaced.
+     *
+     * @param studentIds student ids
+     * @return number of affected rows
+     */
+    int copyDeletedStudents(Collection<String> studentIds);
+}
@@ -0,0 +1,27 @@
+package com.cms.student.repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Collection;
+
+/**
+ * The insert select is run through the entity manager, spring data can not derive the count query it expects from
+ * a declared native query which does not start with a select.
+ */
+public class StudentArchiveCopyRepositoryImpl implements StudentArchiveCopyRepository {
+    private static final String COPY_DELETED_STUDENTS = "REPLACE INTO student_archive (student_id, first_name, " +
+            "last_name, address, gender, age, phone_number, grade, student_status, tuition_class_id, joined_date, " +
+            "updated_at, archived_at, version) SELECT d.student_id, d.first_name, d.last_name, d.address, d.gender, " +
+            "d.age, d.phone_number, d.grade, d.student_status, d.tuition_class_id, d.joined_date, d.updated_at, " +
+            "NOW(3), d.version " +
+            "FROM student d WHERE d.is_deleted=true AND d.student_id IN (:studentIds)";
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int copyDeletedStudents(Collection<String> studentIds) {
+        return entityManager.createNativeQuery(COPY_DELETED_STUDENTS)
+                .setParameter("studentIds", studentIds)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,10 @@
+package com.cms.student.repository;
+
+import com.cms.student.domain.entity.StudentArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StudentArchiveRepository extends JpaRepository<StudentArchive, String>,
+        StudentArchiveCopyRepository {
+}
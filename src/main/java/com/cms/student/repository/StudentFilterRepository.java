@@ -0,0 +1,31 @@
+package com.cms.student.repository;
+
+import com.cms.student.domain.filter.StudentFilter;
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.utills.StudentCursor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Dynamic student list queries, only the given filters are added to the where clause
+ */
+public interface StudentFilterRepository {
+    /**
+     * This method find the slice of the active students matching the filter after the cursor, ordered by updated
+     * time and student id
+     *
+     * @param studentFilter student filter
+     * @param after         cursor of the previous page or null for the first page
+     * @param pageable      page number and size
+     * @return StudentResponseDtoSlice
+     */
+    Slice<StudentResponseDto> findFilteredSlice(StudentFilter studentFilter, StudentCursor after, Pageable pageable);
+
+    /**
+     * This method count the active students matching the filter
+     *
+     * @param studentFilter student filter
+     * @return StudentCount
+     */
+    long countFiltered(StudentFilter studentFilter);
+}
@@ -0,0 +1,96 @@
+package com.cms.student.repository;
+
+import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.filter.StudentFilter;
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.utills.StudentCursor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hibernate.annotations.QueryHints.FLUSH_MODE;
+
+/**
+ * The filtered page is built with the criteria api so that every filter combination is a single query which can
+ * use the matching (is_deleted, filter, updated_at, student_id) index for both the range and the order.
+ */
+public class StudentFilterRepositoryImpl implements StudentFilterRepository {
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String STUDENT_ID = "studentId";
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<StudentResponseDto> findFilteredSlice(StudentFilter studentFilter, StudentCursor after,
+                                                       Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<StudentResponseDto> query = builder.createQuery(StudentResponseDto.class);
+        Root<Student> student = query.from(Student.class);
+        Path<Timestamp> updatedAt = student.get(UPDATED_AT);
+        Path<String> studentId = student.get(STUDENT_ID);
+
+        List<Predicate> predicates = getFilterPredicates(builder, student, studentFilter);
+        if (after != null) {
+            Timestamp afterUpdatedAt = after.getUpdatedAtTimestamp();
+            predicates.add(builder.or(builder.greaterThan(updatedAt, afterUpdatedAt),
+                    builder.and(builder.equal(updatedAt, afterUpdatedAt),
+                            builder.greaterThan(studentId, after.getStudentId()))));
+        }
+
+        query.select(builder.construct(StudentResponseDto.class, studentId, student.get("firstName"),
+                        student.get("lastName"), student.get("address"), student.get("gender"), student.get("age"),
+                        student.get("grade"), student.get("phoneNumber"), student.get("studentStatus"),
+                        student.get("tuitionClassId"), student.get("joinedDate"), updatedAt,
+                        student.get("isDeleted"), student.get("version")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(builder.asc(updatedAt), builder.asc(studentId));
+        List<StudentResponseDto> students = entityManager.createQuery(query)
+                .setHint(FLUSH_MODE, "MANUAL")
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = students.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? students.subList(0, pageable.getPageSize()) : students, pageable, hasNext);
+    }
+
+    @Override
+    public long countFiltered(StudentFilter studentFilter) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Student> student = query.from(Student.class);
+        query.select(builder.count(student))
+                .where(getFilterPredicates(builder, student, studentFilter).toArray(new Predicate[0]));
+        return entityManager.createQuery(query)
+                .setHint(FLUSH_MODE, "MANUAL")
+                .getSingleResult();
+    }
+
+    private static List<Predicate> getFilterPredicates(CriteriaBuilder builder, Root<Student> student,
+                                                       StudentFilter studentFilter) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(builder.isFalse(student.get("isDeleted")));
+        addEqual(predicates, builder, student.get("tuitionClassId"), studentFilter.getTuitionClassId());
+        addEqual(predicates, builder, student.get("grade"), studentFilter.getGrade());
+        addEqual(predicates, builder, student.get("studentStatus"), studentFilter.getStudentStatus());
+        addEqual(predicates, builder, student.get("gender"), studentFilter.getGender());
+        addEqual(predicates, builder, student.get("phoneNumber"), studentFilter.getPhoneNumber());
+        return predicates;
+    }
+
+    private static void addEqual(List<Predicate> predicates, CriteriaBuilder builder, Path<?> path, Object value) {
+        if (value != null) {
+            predicates.add(builder.equal(path, value));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.cms.student.repository;
+
+import com.cms.student.domain.request.PatchStudentRequestDto;
+
+import java.sql.Timestamp;
+
+/**
+ * Partial student updates, only the given fields are written
+ */
+public interface StudentPatchRepository {
+    /**
+     * This method update the given fields of the active student when it is still at the given version. The version
+     * is increased by the same statement.
+     *
+     * @param patchStudentRequestDto patch student request dto
+     * @param updatedAt              updated time
+     * @return number of updated students, 0 when the student is not active or is at another version
+     */
+    int patchStudent(PatchStudentRequestDto patchStudentRequestDto, Timestamp updatedAt);
+}
@@ -0,0 +1,81 @@
+package com.cms.student.repository;
+
+import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.request.PatchStudentRequestDto;
+import com.cms.student.enums.Gender;
+import com.cms.student.enums.StudentStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Path;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The patch is one criteria update statement with only the given columns, the student is not loaded and the
+ * version check is part of its where clause. The statement commits before the cached student is removed.
+ * Values are bound as parameters so the same set of columns always gives the same sql.
+ */
+public class StudentPatchRepositoryImpl implements StudentPatchRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int patchStudent(PatchStudentRequestDto patchStudentRequestDto, Timestamp updatedAt) {
+        var builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Student> update = builder.createCriteriaUpdate(Student.class);
+        var student = update.from(Student.class);
+        Map<ParameterExpression<?>, Object> parameters = new HashMap<>();
+        setIfGiven(builder, update, parameters, student.get("firstName"), patchStudentRequestDto.getFirstName());
+        setIfGiven(builder, update, parameters, student.get("lastName"), patchStudentRequestDto.getLastName());
+        setIfGiven(builder, update, parameters, student.get("address"), patchStudentRequestDto.getAddress());
+        setIfGiven(builder, update, parameters, student.get("age"), patchStudentRequestDto.getAge());
+        setIfGiven(builder, update, parameters, student.get("grade"), patchStudentRequestDto.getGrade());
+        setIfGiven(builder, update, parameters, student.get("phoneNumber"), patchStudentRequestDto.getPhoneNumber());
+        setIfGiven(builder, update, parameters, student.get("tuitionClassId"),
+                patchStudentRequestDto.getTuitionClassId());
+        if (patchStudentRequestDto.getGender() != null) {
+            setIfGiven(builder, update, parameters, student.get("gender"),
+                    Gender.valueOf(patchStudentRequestDto.getGender().toUpperCase(Locale.ROOT)));
+        }
+        if (patchStudentRequestDto.getStudentStatus() != null) {
+            setIfGiven(builder, update, parameters, student.get("studentStatus"),
+                    StudentStatus.valueOf(patchStudentRequestDto.getStudentStatus().toUpperCase(Locale.ROOT)));
+        }
+        setIfGiven(builder, update, parameters, student.get("updatedAt"), updatedAt);
+        Path<Long> version = student.get("version");
+        ParameterExpression<String> studentId = builder.parameter(String.class);
+        ParameterExpression<Long> expectedVersion = builder.parameter(Long.class);
+        update.set(version, builder.sum(version, 1L))
+                .where(builder.equal(student.get("studentId"), studentId),
+                        builder.equal(version, expectedVersion),
+                        builder.isFalse(student.get("isDeleted")));
+        var query = entityManager.createQuery(update)
+                .setParameter(studentId, patchStudentRequestDto.getStudentId())
+                .setParameter(expectedVersion, patchStudentRequestDto.getVersion());
+        parameters.forEach((parameter, value) -> query.setParameter(bind(parameter), value));
+        return query.executeUpdate();
+    }
+
+    private static <T> void setIfGiven(CriteriaBuilder builder, CriteriaUpdate<Student> update,
+                                       Map<ParameterExpression<?>, Object> parameters, Path<T> attribute, T value) {
+        if (value != null) {
+            @SuppressWarnings("unchecked")
+            ParameterExpression<T> parameter = builder.parameter((Class<T>) attribute.getJavaType());
+            update.set(attribute, parameter);
+            parameters.put(parameter, value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ParameterExpression<Object> bind(ParameterExpression<?> parameter) {
+        return (ParameterExpression<Object>) parameter;
+    }
+}
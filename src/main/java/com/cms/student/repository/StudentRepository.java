@@ -1,24 +1,155 @@
 package com.cms.student.repository;
 
 import com.cms.student.domain.entity.Student;
-import org.springframework.data.domain.Page;
+import com.cms.student.domain.projection.StudentNameView;
+import com.cms.student.domain.response.StudentResponseDto;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+import static org.hibernate.annotations.QueryHints.FLUSH_MODE;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
 
 @Repository
-public interface StudentRepository extends JpaRepository<Student, String> {
-    @Query(value = "SELECT * FROM student d WHERE d.is_deleted=false", nativeQuery = true)
-    Page<Student> findAll(Pageable pageable);
+public interface StudentRepository extends JpaRepository<Student, String>, StudentFilterRepository,
+        StudentPatchRepository, StudentSearchRepository {
+    String STUDENT_RESPONSE_PROJECTION = "SELECT new com.cms.student.domain.response.StudentResponseDto(" +
+            "s.studentId, s.firstName, s.lastName, s.address, s.gender, s.age, s.grade, s.phoneNumber, " +
+            "s.studentStatus, s.tuitionClassId, s.joinedDate, s.updatedAt, s.isDeleted, s.version) FROM Student s ";
+
+    /**
+     * The response queries create the dtos directly from the rows, no entity is managed or snapshotted and
+     * nothing is flushed before they run. The pages are slices, one more row than the page size is read to find
+     * the next page and no count query is run.
+     */
+    @QueryHints(@QueryHint(name = FLUSH_MODE, value = "MANUAL"))
+    @Query(STUDENT_RESPONSE_PROJECTION + "WHERE s.isDeleted = false ORDER BY s.updatedAt, s.studentId")
+    Slice<StudentResponseDto> findFirstPage(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = FLUSH_MODE, value = "MANUAL"))
+    @Query(STUDENT_RESPONSE_PROJECTION + "WHERE s.isDeleted = false AND (s.updatedAt > ?1 OR " +
+            "(s.updatedAt = ?1 AND s.studentId > ?2)) ORDER BY s.updatedAt, s.studentId")
+    Slice<StudentResponseDto> findPageAfter(Timestamp updatedAt, String studentId, Pageable pageable);
+
+    /**
+     * The change feed reads the deleted students too, they are returned as tombstones
+     */
+    @QueryHints(@QueryHint(name = FLUSH_MODE, value = "MANUAL"))
+    @Query(STUDENT_RESPONSE_PROJECTION + "WHERE s.updatedAt < ?1 ORDER BY s.updatedAt, s.studentId")
+    Slice<StudentResponseDto> findChanges(Timestamp settledBefore, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = FLUSH_MODE, value = "MANUAL"))
+    @Query(STUDENT_RESPONSE_PROJECTION + "WHERE s.updatedAt < ?3 AND (s.updatedAt > ?1 OR " +
+            "(s.updatedAt = ?1 AND s.studentId > ?2)) ORDER BY s.updatedAt, s.studentId")
+    Slice<StudentResponseDto> findChangesAfter(Timestamp updatedAt, String studentId, Timestamp settledBefore,
+                                               Pageable pageable);
+
+    @QueryHints(@QueryHint(name = FLUSH_MODE, value = "MANUAL"))
+    @Query(STUDENT_RESPONSE_PROJECTION + "WHERE s.isDeleted = false AND s.studentId = ?1")
+    Optional<StudentResponseDto> findResponseById(String studentId);
+
+    /**
+     * Ranks the active students by the full text relevance of their names and returns only their ids, the rows are
+     * read with findResponsesByIds. The query is a boolean mode expression and needs the ft_student_name FULLTEXT
+     * index, see db/002_student_name_fulltext.sql.
+     */
+    @Query(value = "SELECT s.student_id FROM student s WHERE s.is_deleted = false " +
+            "AND MATCH (s.first_name, s.last_name) AGAINST (?1 IN BOOLEAN MODE) " +
+            "ORDER BY MATCH (s.first_name, s.last_name) AGAINST (?1 IN BOOLEAN MODE) DESC, s.student_id LIMIT ?2",
+            nativeQuery = true)
+    List<String> searchIdsByName(String fullTextQuery, int limit);
+
+    @QueryHints(@QueryHint(name = FLUSH_MODE, value = "MANUAL"))
+    @Query(STUDENT_RESPONSE_PROJECTION + "WHERE s.isDeleted = false AND s.studentId IN ?1")
+    List<StudentResponseDto> findResponsesByIds(Collection<String> studentIds);
+
+    /**
+     * Streams every active student row by row. MySQL Connector/J only streams a forward-only result set when the
+     * fetch size is Integer.MIN_VALUE, otherwise the whole result is buffered in the driver.
+     * The caller must consume and close the stream inside a read-only transaction.
+     */
+    @QueryHints({@QueryHint(name = FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = READ_ONLY, value = "true")})
+    @Query(value = "SELECT * FROM student d WHERE d.is_deleted=false ORDER BY d.updated_at, d.student_id",
+            nativeQuery = true)
+    Stream<Student> streamAllStudents();
 
     @Query(value = "SELECT * FROM student d WHERE d.is_deleted=false AND d.student_id=?1", nativeQuery = true)
     Optional<Student> findById(String studentId);
 
+    @Query(value = "SELECT * FROM student d WHERE d.is_deleted=true AND d.student_id=?1", nativeQuery = true)
+    Optional<Student> findDeletedById(String studentId);
+
+    /**
+     * Locks the oldest chunk of the students deleted before the given time. The rows are read from the
+     * (is_deleted, updated_at, student_id) index and stay locked until the chunk transaction ends, so a restore
+     * can not run between the archive copy and the delete.
+     */
+    @Query(value = "SELECT d.student_id FROM student d WHERE d.is_deleted=true AND d.updated_at < ?1 " +
+            "ORDER BY d.updated_at, d.student_id LIMIT ?2 FOR UPDATE", nativeQuery = true)
+    List<String> lockDeletedStudentIds(Timestamp deletedBefore, int limit);
+
+    @Modifying
+    @Query("DELETE FROM Student s WHERE s.isDeleted = true AND s.studentId IN ?1")
+    int deleteArchivedStudents(Collection<String> studentIds);
+
+    /**
+     * The soft deletes change only the deleted flag, the updated time and the version in one statement without
+     * loading the students, the number of updated rows tells which students were active. Every statement commits
+     * on its own, so the cached students are removed only after the change is visible.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Student s SET s.isDeleted = true, s.updatedAt = ?2, s.version = s.version + 1 " +
+            "WHERE s.isDeleted = false AND s.studentId = ?1")
+    int softDeleteById(String studentId, Timestamp deletedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Student s SET s.isDeleted = true, s.updatedAt = ?2, s.version = s.version + 1 " +
+            "WHERE s.isDeleted = false AND s.studentId IN ?1")
+    int softDeleteByIds(Collection<String> studentIds, Timestamp deletedAt);
+
+    @Query("SELECT s.studentId FROM Student s WHERE s.isDeleted = false AND s.tuitionClassId = ?1")
+    List<String> findIdsByTuitionClassId(String tuitionClassId);
+
+    @Query("SELECT s.version FROM Student s WHERE s.isDeleted = false AND s.studentId = ?1")
+    Optional<Long> findVersionById(String studentId);
+
+    @Query("SELECT s.firstName AS firstName, s.lastName AS lastName FROM Student s " +
+            "WHERE s.isDeleted = false AND s.studentId = ?1")
+    Optional<StudentNameView> findNameById(String studentId);
+
+    @Query("SELECT s.updatedAt FROM Student s WHERE s.isDeleted = false AND s.studentId = ?1")
+    Optional<Timestamp> findUpdatedAtById(String studentId);
+
+    /**
+     * Every create, update, delete and restore stamps updated_at and the deleted students are included, so the
+     * value changes with every change of the active student list. It is read from the end of the updated_at index.
+     */
+    @Query("SELECT MAX(s.updatedAt) FROM Student s")
+    Optional<Timestamp> findLastUpdatedAt();
+
     boolean existsByFirstNameAndLastName(String firstName, String lastName);
 
     boolean existsByFirstNameAndLastNameAndStudentIdNot(String firstName, String lastName, String studentId);
 
+    @Query("SELECT s.firstName AS firstName, s.lastName AS lastName FROM Student s " +
+            "WHERE s.firstName IN ?1 AND s.lastName IN ?2")
+    List<StudentNameView> findNamesByFirstNameInAndLastNameIn(Collection<String> firstNames,
+                                                             Collection<String> lastNames);
+
 }
@@ -0,0 +1,21 @@
+package com.cms.student.repository;
+
+import com.cms.student.domain.response.StudentResponseDto;
+
+import java.util.List;
+
+/**
+ * Name prefix queries of the student search, each query ranges over the index of a single name column
+ */
+public interface StudentSearchRepository {
+    /**
+     * This method find the active students whose name column starts with the first prefix and whose first or last
+     * name starts with every other prefix, ordered by the name column and student id
+     *
+     * @param nameColumn name column bounded by the first prefix, firstName or lastName
+     * @param prefixes   name prefixes without wildcards
+     * @param limit      max number of students
+     * @return StudentResponseDtoList
+     */
+    List<StudentResponseDto> findByNamePrefixes(String nameColumn, List<String> prefixes, int limit);
+}
@@ -0,0 +1,66 @@
+package com.cms.student.repository;
+
+import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.response.StudentResponseDto;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hibernate.annotations.QueryHints.FLUSH_MODE;
+
+/**
+ * The prefix of the first term is a range of the idx_student_first_name or idx_student_last_name index, and the
+ * rows are read in the index order (name, student id), so the query stops after the limit without a filesort.
+ * The other terms and the deleted flag are checked on the rows of that range.
+ */
+public class StudentSearchRepositoryImpl implements StudentSearchRepository {
+    private static final String FIRST_NAME = "firstName";
+    private static final String LAST_NAME = "lastName";
+    private static final String STUDENT_ID = "studentId";
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<StudentResponseDto> findByNamePrefixes(String nameColumn, List<String> prefixes, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<StudentResponseDto> query = builder.createQuery(StudentResponseDto.class);
+        Root<Student> student = query.from(Student.class);
+        Path<String> name = student.get(nameColumn);
+        Path<String> firstName = student.get(FIRST_NAME);
+        Path<String> lastName = student.get(LAST_NAME);
+        Path<String> studentId = student.get(STUDENT_ID);
+
+        List<ParameterExpression<String>> patterns = new ArrayList<>();
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(builder.isFalse(student.get("isDeleted")));
+        for (int i = 0; i < prefixes.size(); i++) {
+            ParameterExpression<String> pattern = builder.parameter(String.class);
+            patterns.add(pattern);
+            predicates.add(i == 0 ? builder.like(name, pattern)
+                    : builder.or(builder.like(firstName, pattern), builder.like(lastName, pattern)));
+        }
+
+        query.select(builder.construct(StudentResponseDto.class, studentId, firstName, lastName,
+                        student.get("address"), student.get("gender"), student.get("age"), student.get("grade"),
+                        student.get("phoneNumber"), student.get("studentStatus"), student.get("tuitionClassId"),
+                        student.get("joinedDate"), student.get("updatedAt"), student.get("isDeleted"),
+                        student.get("version")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(builder.asc(name), builder.asc(studentId));
+        var typedQuery = entityManager.createQuery(query)
+                .setHint(FLUSH_MODE, "MANUAL")
+                .setMaxResults(limit);
+        for (int i = 0; i < prefixes.size(); i++) {
+            typedQuery.setParameter(patterns.get(i), prefixes.get(i) + '%');
+        }
+        return typedQuery.getResultList();
+    }
+}
@@ -0,0 +1,33 @@
+package com.cms.student.scheduler;
+
+import com.cms.student.exception.StudentException;
+import com.cms.student.service.StudentArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the student archive job, by default once a night when the traffic is low
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "student.archive.enabled", havingValue = "true")
+public class StudentArchiveScheduler {
+    private final StudentArchiveService studentArchiveService;
+
+    @Autowired
+    public StudentArchiveScheduler(StudentArchiveService studentArchiveService) {
+        this.studentArchiveService = studentArchiveService;
+    }
+
+    @Scheduled(cron = "${student.archive.cron:0 0 3 * * *}")
+    public void archiveDeletedStudents() {
+        try {
+            studentArchiveService.archiveDeletedStudents();
+        } catch (StudentException e) {
+            log.error("The archiving deleted students is failed. Error message: {}", e.getMessage());
+        }
+    }
+}
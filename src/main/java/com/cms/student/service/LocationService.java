@@ -0,0 +1,293 @@
+package com.cms.student.service;
+
+import com.cms.student.enums.RemoteCallOutcome;
+import com.cms.student.exception.ConnectionException;
+import com.cms.student.exception.InvalidLocationException;
+import com.cms.student.exception.StudentException;
+import com.cms.student.utills.Constants;
+import com.cms.student.utills.MicroBatcher;
+import com.cms.student.utills.SingleFlight;
+import com.cms.student.wrapper.LocationIdsResponseWrapper;
+import com.cms.student.wrapper.LocationResponseWrapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.InterruptedIOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Location Service
+ */
+@Service
+public class LocationService {
+    private static final String LOCATION_ID_REPLACE_PHRASE = "##LOCATION-ID##";
+    private static final String INVALID_TUITION_CLASS_EXCEPTION_MESSAGE = "The selected location id not exists. Id : ";
+    public static final String LOCATION_REQUEST_METRIC = "location.service.requests";
+    public static final String LOCATION_REJECTION_METRIC = "location.service.rejections";
+    private static final String BATCH_THREAD_NAME_PREFIX = "location-batch-";
+    private static final long BATCH_THREAD_KEEP_ALIVE_SECONDS = 60;
+    private final RestTemplate restTemplate;
+    private final Cache<String, Boolean> locationValidationCache;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final SingleFlight<String, Boolean> locationLookups;
+    private final MicroBatcher<String, String, Boolean> locationBatcher;
+    private final ExecutorService batchExecutor;
+    private final String getLocationUrl;
+    private final String getLocationsUrl;
+
+    @Autowired
+    public LocationService(RestTemplate restTemplate, Cache<String, Boolean> locationValidationCache,
+                           MeterRegistry meterRegistry, CircuitBreaker locationCircuitBreaker,
+                           Bulkhead locationBulkhead,
+                           @Value("${location.single-flight.timeout-millis:5000}") long lookupTimeoutMillis,
+                           @Value("${location.batch.window-millis:0}") long batchWindowMillis,
+                           @Value("${location.batch.max-size:50}") int batchMaxSize,
+                           @Value("${location.batch.parallelism:8}") int batchParallelism,
+                           @Value("${location.batch.queue-capacity:200}") int batchQueueCapacity,
+                           @Value("${location.uri.baseUrl}") String baseUrl,
+                           @Value("${location.uri.getLocationById}") String getLocation,
+                           @Value("${location.uri.getLocationsByIds:}") String getLocations) {
+        this.restTemplate = restTemplate;
+        this.locationValidationCache = locationValidationCache;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = locationCircuitBreaker;
+        this.bulkhead = locationBulkhead;
+        this.locationLookups = new SingleFlight<>(lookupTimeoutMillis);
+        this.getLocationUrl = baseUrl + getLocation;
+        this.getLocationsUrl = getLocations.isBlank() ? null : baseUrl + getLocations;
+        if (batchWindowMillis > 0) {
+            this.locationBatcher = new MicroBatcher<>(this::resolveLocations, batchMaxSize, batchWindowMillis,
+                    lookupTimeoutMillis);
+            // a full queue rejects the lookup at once instead of queueing it past its deadline
+            var executor = new ThreadPoolExecutor(batchParallelism, batchParallelism,
+                    BATCH_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(batchQueueCapacity),
+                    new CustomizableThreadFactory(BATCH_THREAD_NAME_PREFIX), new ThreadPoolExecutor.AbortPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            this.batchExecutor = executor;
+        } else {
+            this.locationBatcher = null;
+            this.batchExecutor = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (batchExecutor != null) {
+            batchExecutor.shutdown();
+        }
+    }
+
+    /**
+     * This method validate the tuition class location. The result is cached by tuition class id, so only the
+     * first lookup of a location within the cache ttl calls the location service. The concurrent lookups of a
+     * location which is not cached share one call. When batching is enabled the lookups of different locations
+     * arriving within the batch window are resolved together.
+     *
+     * @param tuitionClassId tuition class id
+     * @param authToken      access token
+     */
+    public void validateLocation(String tuitionClassId, String authToken) {
+        Boolean validLocation = locationValidationCache.getIfPresent(tuitionClassId);
+        if (validLocation == null) {
+            validLocation = locationLookups.execute(tuitionClassId, () -> {
+                boolean existingLocation = locationBatcher == null
+                        ? callGuarded(() -> isExistingLocation(tuitionClassId, authToken))
+                        : locationBatcher.submit(authToken.trim(), tuitionClassId);
+                locationValidationCache.put(tuitionClassId, existingLocation);
+                return existingLocation;
+            });
+        }
+        if (!validLocation) {
+            throw new InvalidLocationException(INVALID_TUITION_CLASS_EXCEPTION_MESSAGE + tuitionClassId);
+        }
+    }
+
+    /**
+     * This method resolve a batch of location lookups made with the same access token. The batch is checked with
+     * one request when the location service bulk url is configured, otherwise every location is checked on its
+     * own by the bounded batch pool.
+     *
+     * @param authToken access token
+     * @param lookups   lookups by tuition class id
+     */
+    private void resolveLocations(String authToken, Map<String, CompletableFuture<Boolean>> lookups) {
+        if (getLocationsUrl == null) {
+            lookups.forEach((tuitionClassId, result) -> checkLocationInBatchPool(tuitionClassId, authToken, result));
+            return;
+        }
+        Set<String> existingLocations = callGuarded(() -> findExistingLocations(lookups.keySet(), authToken));
+        lookups.forEach((tuitionClassId, result) -> result.complete(existingLocations.contains(tuitionClassId)));
+    }
+
+    /**
+     * This method check a location of the batch on the batch pool. The lookup is skipped when its caller has
+     * already given up by the time the task runs, and it fails at once when the pool queue is full.
+     *
+     * @param tuitionClassId tuition class id
+     * @param authToken      access token
+     * @param result         result of the lookup
+     */
+    private void checkLocationInBatchPool(String tuitionClassId, String authToken, CompletableFuture<Boolean> result) {
+        try {
+            batchExecutor.execute(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    result.complete(callGuarded(() -> isExistingLocation(tuitionClassId, authToken)));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectionCounter("batch_queue_full").increment();
+            result.completeExceptionally(new ConnectionException("Too many location lookups are waiting for the "
+                    + "batch pool", e));
+        }
+    }
+
+    /**
+     * This method make the location service call through the bulkhead and the circuit breaker. When the location
+     * service is failing or too many calls are waiting on it the call is rejected at once.
+     *
+     * @param call location service call
+     * @param <T>  result type
+     * @return result of the call
+     */
+    private <T> T callGuarded(Supplier<T> call) {
+        try {
+            return bulkhead.executeSupplier(() -> circuitBreaker.executeSupplier(call));
+        } catch (CallNotPermittedException e) {
+            rejectionCounter("circuit_open").increment();
+            throw new ConnectionException("The location service calls are stopped by the open circuit breaker", e);
+        } catch (BulkheadFullException e) {
+            rejectionCounter("bulkhead_full").increment();
+            throw new ConnectionException("Too many concurrent calls are waiting on the location service", e);
+        }
+    }
+
+    private Counter rejectionCounter(String reason) {
+        return Counter.builder(LOCATION_REJECTION_METRIC)
+                .description("Location lookups rejected without calling the location service")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * This method check the tuition class location in location service. The call latency is recorded with its
+     * outcome.
+     *
+     * @param tuitionClassId tuition class id
+     * @param authToken      access token
+     * @return true/ false
+     */
+    private boolean isExistingLocation(String tuitionClassId, String authToken) {
+        var sample = Timer.start(meterRegistry);
+        var outcome = RemoteCallOutcome.OK;
+        try {
+            var entity = new HttpEntity<String>(getTokenHeader(authToken));
+            String uri = getLocationUrl.replace(LOCATION_ID_REPLACE_PHRASE, tuitionClassId);
+            var responseWrapper = restTemplate.exchange(uri, HttpMethod.GET,
+                    entity, LocationResponseWrapper.class);
+            var statusCode = Objects.requireNonNull(responseWrapper.getBody()).getStatusCode();
+            if (statusCode != HttpStatus.OK.value()) {
+                outcome = RemoteCallOutcome.BAD_REQUEST;
+                return false;
+            }
+            return true;
+        } catch (ResourceAccessException e) {
+            outcome = e.getCause() instanceof InterruptedIOException ? RemoteCallOutcome.TIMEOUT
+                    : RemoteCallOutcome.CONNECTION_ERROR;
+            throw new ConnectionException("Can not access the resources from other services", e);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().value() == HttpStatus.BAD_REQUEST.value()) {
+                outcome = RemoteCallOutcome.BAD_REQUEST;
+                return false;
+            }
+            outcome = RemoteCallOutcome.CLIENT_ERROR;
+            throw new StudentException("Getting tuition class by id is failed", e);
+        } catch (HttpServerErrorException e) {
+            outcome = RemoteCallOutcome.SERVER_ERROR;
+            throw e;
+        } finally {
+            recordLocationRequest(sample, outcome);
+        }
+    }
+
+    /**
+     * This method get the existing tuition class locations among the given ids with one location service call
+     *
+     * @param tuitionClassIds tuition class ids
+     * @param authToken       access token
+     * @return existing tuition class ids
+     */
+    private Set<String> findExistingLocations(Collection<String> tuitionClassIds, String authToken) {
+        var sample = Timer.start(meterRegistry);
+        var outcome = RemoteCallOutcome.OK;
+        try {
+            var entity = new HttpEntity<>(tuitionClassIds, getTokenHeader(authToken));
+            var responseWrapper = restTemplate.exchange(getLocationsUrl, HttpMethod.POST, entity,
+                    LocationIdsResponseWrapper.class);
+            return new HashSet<>(Objects.requireNonNull(responseWrapper.getBody()).getData());
+        } catch (ResourceAccessException e) {
+            outcome = e.getCause() instanceof InterruptedIOException ? RemoteCallOutcome.TIMEOUT
+                    : RemoteCallOutcome.CONNECTION_ERROR;
+            throw new ConnectionException("Can not access the resources from other services", e);
+        } catch (HttpServerErrorException e) {
+            outcome = RemoteCallOutcome.SERVER_ERROR;
+            throw e;
+        } catch (HttpStatusCodeException e) {
+            outcome = RemoteCallOutcome.CLIENT_ERROR;
+            throw new StudentException("Getting tuition classes by ids is failed", e);
+        } finally {
+            recordLocationRequest(sample, outcome);
+        }
+    }
+
+    private HttpHeaders getTokenHeader(String authToken) {
+        var header = new HttpHeaders();
+        header.set(Constants.TOKEN_HEADER, authToken.trim());
+        return header;
+    }
+
+    private void recordLocationRequest(Timer.Sample sample, RemoteCallOutcome outcome) {
+        sample.stop(Timer.builder(LOCATION_REQUEST_METRIC)
+                .description("Latency of the tuition class location lookups")
+                .tag("outcome", outcome.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,158 @@
+package com.cms.student.service;
+
+import com.cms.student.domain.cache.CachedStudent;
+import com.cms.student.domain.entity.Student;
+import com.cms.student.exception.InvalidStudentException;
+import com.cms.student.exception.StudentAlreadyExistsException;
+import com.cms.student.exception.StudentException;
+import com.cms.student.repository.StudentArchiveRepository;
+import com.cms.student.repository.StudentRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Student Archive Service
+ */
+@Slf4j
+@Service
+@Timed(value = "student.archive", description = "Latency of the student archive methods", histogram = true)
+public class StudentArchiveService {
+    private final StudentRepository studentRepository;
+    private final StudentArchiveRepository studentArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncCache<String, CachedStudent> studentCache;
+    private final long retentionMillis;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long pauseMillis;
+
+    @Autowired
+    public StudentArchiveService(StudentRepository studentRepository,
+                                 StudentArchiveRepository studentArchiveRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 AsyncCache<String, CachedStudent> studentCache,
+                                 @Value("${student.archive.retention-days:30}") long retentionDays,
+                                 @Value("${student.archive.chunk-size:500}") int chunkSize,
+                                 @Value("${student.archive.max-chunks-per-run:1000}") int maxChunksPerRun,
+                                 @Value("${student.archive.pause-millis:200}") long pauseMillis) {
+        this.studentRepository = studentRepository;
+        this.studentArchiveRepository = studentArchiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.studentCache = studentCache;
+        this.retentionMillis = TimeUnit.DAYS.toMillis(retentionDays);
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pauseMillis = pauseMillis;
+    }
+
+    /**
+     * This method move the students deleted before the retention period into the archive table. Every chunk is
+     * moved in its own short transaction and the job pauses between the chunks, so the row locks are held only
+     * for one chunk and the live requests are not starved.
+     *
+     * @return number of archived students
+     */
+    public int archiveDeletedStudents() {
+        var deletedBefore = new Timestamp(System.currentTimeMillis() - retentionMillis);
+        int archivedCount = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<String> studentIds = archiveChunk(deletedBefore);
+            archivedCount += studentIds.size();
+            if (studentIds.size() < chunkSize || !pause()) {
+                break;
+            }
+        }
+        log.info("The {} students deleted before {} are archived", archivedCount, deletedBefore);
+        return archivedCount;
+    }
+
+    /**
+     * This method restore a deleted student as an active student. A student which is not archived yet is
+     * restored in place, otherwise it is moved back from the archive.
+     *
+     * @param studentId student id
+     * @return Student
+     */
+    @Transactional
+    public Student restoreStudent(String studentId) {
+        try {
+            var deletedStudent = studentRepository.findDeletedById(studentId);
+            Student student;
+            if (deletedStudent.isPresent()) {
+                student = deletedStudent.get();
+                validateStudentName(student);
+                student.restore();
+            } else {
+                var studentArchive = studentArchiveRepository.findById(studentId).orElseThrow(() ->
+                        new InvalidStudentException("The given student id is not deleted: " + studentId));
+                student = new Student(studentArchive);
+                validateStudentName(student);
+                studentArchiveRepository.delete(studentArchive);
+            }
+            studentRepository.save(student);
+            studentCache.synchronous().invalidate(studentId);
+            return student;
+        } catch (DataAccessException e) {
+            throw new StudentException("Restoring student is failed", e);
+        }
+    }
+
+    /**
+     * This method move one chunk of the deleted students into the archive in a single transaction
+     *
+     * @param deletedBefore deleted time limit
+     * @return ArchivedStudentIds
+     */
+    private List<String> archiveChunk(Timestamp deletedBefore) {
+        try {
+            return transactionTemplate.execute(status -> {
+                List<String> studentIds = studentRepository.lockDeletedStudentIds(deletedBefore, chunkSize);
+                if (!studentIds.isEmpty()) {
+                    studentArchiveRepository.copyDeletedStudents(studentIds);
+                    studentRepository.deleteArchivedStudents(studentIds);
+                }
+                return studentIds;
+            });
+        } catch (DataAccessException e) {
+            throw new StudentException("Archiving deleted students is failed", e);
+        }
+    }
+
+    /**
+     * This method wait between the chunks
+     *
+     * @return false when the job is interrupted
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * This method validate the name of the restored student is not used by another student
+     *
+     * @param student student
+     */
+    private void validateStudentName(Student student) {
+        if (studentRepository.existsByFirstNameAndLastNameAndStudentIdNot(student.getFirstName(),
+                student.getLastName(), student.getStudentId())) {
+            throw new StudentAlreadyExistsException("Student already exists");
+        }
+    }
+}
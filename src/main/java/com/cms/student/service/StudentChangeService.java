@@ -0,0 +1,75 @@
+package com.cms.student.service;
+
+import com.cms.student.domain.response.StudentChangeResponseDto;
+import com.cms.student.domain.response.StudentChangesResponseDto;
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.exception.StudentException;
+import com.cms.student.repository.StudentRepository;
+import com.cms.student.utills.StudentCursor;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Student Change Service
+ */
+@Service
+@Timed(value = "student.changes", description = "Latency of the student change feed", histogram = true)
+public class StudentChangeService {
+    private final StudentRepository studentRepository;
+    private final long settleMillis;
+    private final int defaultSize;
+    private final int maxSize;
+
+    @Autowired
+    public StudentChangeService(StudentRepository studentRepository,
+                                @Value("${student.changes.settle-millis:30000}") long settleMillis,
+                                @Value("${student.changes.default-size:500}") int defaultSize,
+                                @Value("${student.changes.max-size:1000}") int maxSize) {
+        this.studentRepository = studentRepository;
+        this.settleMillis = settleMillis;
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * This method get the students created, updated or deleted after the cursor ordered by updated time and
+     * student id. The changes younger than the settle time are left for the next poll, so a transaction which
+     * commits after a later one has been read is not skipped by the cursor. The settle time has to be longer than
+     * the longest write transaction and the clock difference between the instances.
+     *
+     * @param cursor cursor of the previous changes or null to start from the beginning
+     * @param size   requested number of changes, capped by the server
+     * @return StudentChangesResponseDto
+     */
+    @Transactional(readOnly = true)
+    public StudentChangesResponseDto getStudentChanges(String cursor, Integer size) {
+        StudentCursor after = cursor == null || cursor.isBlank() ? null : StudentCursor.decode(cursor);
+        var settledBefore = new Timestamp(System.currentTimeMillis() - settleMillis);
+        var pageable = PageRequest.of(0, size == null || size <= 0 ? Math.min(defaultSize, maxSize)
+                : Math.min(size, maxSize));
+        Slice<StudentResponseDto> students;
+        try {
+            students = after == null
+                    ? studentRepository.findChanges(settledBefore, pageable)
+                    : studentRepository.findChangesAfter(after.getUpdatedAtTimestamp(), after.getStudentId(),
+                    settledBefore, pageable);
+        } catch (DataAccessException e) {
+            throw new StudentException("Retrieving student changes from database is failed", e);
+        }
+        List<StudentChangeResponseDto> changes = students.getContent().stream().map(StudentChangeResponseDto::new)
+                .collect(Collectors.toList());
+        String nextCursor = students.isEmpty() ? cursor
+                : StudentCursor.of(students.getContent().get(students.getNumberOfElements() - 1)).encode();
+        return new StudentChangesResponseDto(changes, nextCursor, students.hasNext());
+    }
+}
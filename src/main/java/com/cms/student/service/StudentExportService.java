@@ -0,0 +1,112 @@
+package com.cms.student.service;
+
+import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.enums.ExportFormat;
+import com.cms.student.exception.StudentException;
+import com.cms.student.repository.StudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Student Export Service
+ */
+@Service
+public class StudentExportService {
+    private static final String CSV_HEADER = "studentId,firstName,lastName,address,gender,age,grade,phoneNumber," +
+            "studentStatus,tuitionClassId,joinedDate,updatedAt";
+    private static final char CSV_SEPARATOR = ',';
+    private static final char LINE_SEPARATOR = '\n';
+    private final StudentRepository studentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public StudentExportService(StudentRepository studentRepository, EntityManager entityManager,
+                                ObjectMapper objectMapper) {
+        this.studentRepository = studentRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * This method write all active students into the output stream one row at a time
+     *
+     * @param format       export format
+     * @param outputStream response output stream
+     */
+    @Transactional(readOnly = true)
+    public void exportStudents(ExportFormat format, OutputStream outputStream) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try (Stream<Student> students = studentRepository.streamAllStudents()) {
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write(LINE_SEPARATOR);
+            }
+            Iterator<Student> iterator = students.iterator();
+            while (iterator.hasNext()) {
+                Student student = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, student);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(new StudentResponseDto(student)));
+                }
+                writer.write(LINE_SEPARATOR);
+                entityManager.detach(student);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new StudentException("Writing students export is failed", e);
+        } catch (DataAccessException e) {
+            throw new StudentException("Retrieving students for export from database is failed", e);
+        }
+    }
+
+    /**
+     * This method write student as a csv row
+     *
+     * @param writer  writer
+     * @param student student
+     * @throws IOException write failure
+     */
+    private void writeCsvRow(Writer writer, Student student) throws IOException {
+        writeCsvValue(writer, student.getStudentId());
+        writeCsvValue(writer, student.getFirstName());
+        writeCsvValue(writer, student.getLastName());
+        writeCsvValue(writer, student.getAddress());
+        writeCsvValue(writer, student.getGender() == null ? null : student.getGender().getGenderValue());
+        writeCsvValue(writer, String.valueOf(student.getAge()));
+        writeCsvValue(writer, String.valueOf(student.getGrade()));
+        writeCsvValue(writer, String.valueOf(student.getPhoneNumber()));
+        writeCsvValue(writer, student.getStudentStatus() == null ? null : student.getStudentStatus().getStatus());
+        writeCsvValue(writer, student.getTuitionClassId());
+        writeCsvValue(writer, student.getJoinedDate() == null ? null : student.getJoinedDate().toString());
+        writer.write(student.getUpdatedAt() == null ? "" : escapeCsv(student.getUpdatedAt().toString()));
+    }
+
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        writer.write(value == null ? "" : escapeCsv(value));
+        writer.write(CSV_SEPARATOR);
+    }
+
+    private String escapeCsv(String value) {
+        if (value.indexOf(CSV_SEPARATOR) < 0 && value.indexOf('"') < 0 && value.indexOf(LINE_SEPARATOR) < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
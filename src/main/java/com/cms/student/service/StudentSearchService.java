@@ -0,0 +1,90 @@
+package com.cms.student.service;
+
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.exception.InvalidSearchQueryException;
+import com.cms.student.exception.StudentException;
+import com.cms.student.repository.StudentRepository;
+import com.cms.student.utills.StudentSearchQuery;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Student Search Service
+ */
+@Service
+@Timed(value = "student.search", description = "Latency of the student name search", histogram = true)
+public class StudentSearchService {
+    private static final List<String> NAME_COLUMNS = List.of("firstName", "lastName");
+    private final StudentRepository studentRepository;
+    private final int minTokenLength;
+    private final int minPrefixLength;
+    private final int defaultSize;
+    private final int maxSize;
+
+    @Autowired
+    public StudentSearchService(StudentRepository studentRepository,
+                                @Value("${student.search.min-token-length:3}") int minTokenLength,
+                                @Value("${student.search.min-prefix-length:2}") int minPrefixLength,
+                                @Value("${student.search.default-size:20}") int defaultSize,
+                                @Value("${student.search.max-size:50}") int maxSize) {
+        this.studentRepository = studentRepository;
+        this.minTokenLength = minTokenLength;
+        this.minPrefixLength = minPrefixLength;
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * This method search the active students by the prefixes of their first and last names. The full text index
+     * ranks the students matching every term, a query with a short term is matched as name prefixes, the
+     * first name matches are listed before the last name matches.
+     *
+     * @param text search text
+     * @param size requested number of results, capped by the server
+     * @return StudentResponseDtoList
+     */
+    @Transactional(readOnly = true)
+    public List<StudentResponseDto> searchStudents(String text, Integer size) {
+        var searchQuery = StudentSearchQuery.parse(text, minTokenLength, minPrefixLength);
+        if (searchQuery == null) {
+            throw new InvalidSearchQueryException("The given search query has no term of at least " + minPrefixLength
+                    + " letters or digits: " + text);
+        }
+        int limit = size == null || size <= 0 ? Math.min(defaultSize, maxSize) : Math.min(size, maxSize);
+        try {
+            if (searchQuery.isFullText()) {
+                return getRankedStudents(studentRepository.searchIdsByName(searchQuery.getFullTextQuery(), limit));
+            }
+            Map<String, StudentResponseDto> students = new LinkedHashMap<>();
+            for (String nameColumn : NAME_COLUMNS) {
+                for (StudentResponseDto student : studentRepository.findByNamePrefixes(nameColumn,
+                        searchQuery.getPrefixes(), limit)) {
+                    students.putIfAbsent(student.getStudentId(), student);
+                }
+            }
+            return students.values().stream().limit(limit).collect(Collectors.toList());
+        } catch (DataAccessException e) {
+            throw new StudentException("Searching students in database is failed", e);
+        }
+    }
+
+    private List<StudentResponseDto> getRankedStudents(List<String> rankedStudentIds) {
+        if (rankedStudentIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, StudentResponseDto> students = studentRepository.findResponsesByIds(rankedStudentIds).stream()
+                .collect(Collectors.toMap(StudentResponseDto::getStudentId, Function.identity()));
+        return rankedStudentIds.stream().map(students::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+}
@@ -1,52 +1,69 @@
 package com.cms.student.service;
 
+import com.cms.student.domain.cache.CachedStudent;
 import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.filter.StudentFilter;
+import com.cms.student.domain.page.CursorPage;
+import com.cms.student.domain.request.DeleteStudentsRequestDto;
+import com.cms.student.domain.request.PatchStudentRequestDto;
 import com.cms.student.domain.request.StudentRequestDto;
 import com.cms.student.domain.request.UpdateStudentRequestDto;
+import com.cms.student.domain.response.BulkStudentItemResponseDto;
+import com.cms.student.domain.response.PatchStudentResponseDto;
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.enums.ErrorResponseStatus;
+import com.cms.student.enums.SuccessResponseStatus;
 import com.cms.student.exception.*;
 import com.cms.student.repository.StudentRepository;
-import com.cms.student.utills.Constants;
-import com.cms.student.wrapper.LocationResponseWrapper;
+import com.cms.student.utills.AsyncCaches;
+import com.cms.student.utills.ConcurrentValidator;
+import com.cms.student.utills.StudentCursor;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Date;
-import java.util.Objects;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Student Service
  */
+@Slf4j
 @Service
+@Timed(value = "student.service", description = "Latency of the student service methods", histogram = true)
 public class StudentService {
-    private static final int PAGE = 0;
-    private static final int SIZE = 100;
-    private static final String DEFAULT_SORT = "updated_at";
-    private static final String LOCATION_ID_REPLACE_PHRASE = "##LOCATION-ID##";
-    private static final String INVALID_TUITION_CLASS_EXCEPTION_MESSAGE = "The selected location id not exists. Id : ";
+    private static final int DELETE_CHUNK_SIZE = 1000;
     private final StudentRepository studentRepository;
-    private final RestTemplate restTemplate;
-    private final String getLocationUrl;
+    private final LocationService locationService;
+    private final ConcurrentValidator concurrentValidator;
+    private final AsyncCache<String, CachedStudent> studentCache;
+    private final AsyncCache<String, Long> studentCountCache;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
     @Autowired
-    public StudentService(StudentRepository studentRepository, RestTemplate restTemplate,
-                          @Value("${location.uri.baseUrl}") String baseUrl,
-                          @Value("${location.uri.getLocationById}") String getLocation) {
+    public StudentService(StudentRepository studentRepository, LocationService locationService,
+                          ConcurrentValidator concurrentValidator, AsyncCache<String, CachedStudent> studentCache,
+                          AsyncCache<String, Long> studentCountCache,
+                          @Value("${student.page.default-size:100}") int defaultPageSize,
+                          @Value("${student.page.max-size:500}") int maxPageSize) {
         this.studentRepository = studentRepository;
-        this.restTemplate = restTemplate;
-        this.getLocationUrl = baseUrl + getLocation;
+        this.locationService = locationService;
+        this.concurrentValidator = concurrentValidator;
+        this.studentCache = studentCache;
+        this.studentCountCache = studentCountCache;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
@@ -59,41 +76,144 @@ public class StudentService {
     public Student createStudent(StudentRequestDto studentRequestDto, String authToken) {
         try {
             Student student = new Student(studentRequestDto);
-            if (checkStudentExistence(studentRequestDto.getFirstName(), studentRequestDto.getLastName(), null)) {
-                throw new StudentAlreadyExistsException("Student already exists");
-            }
-            var header = new HttpHeaders();
-            header.set(Constants.TOKEN_HEADER, authToken.trim());
-            var entity = new HttpEntity<String>(header);
-            String uri = getLocationUrl.replace(LOCATION_ID_REPLACE_PHRASE, studentRequestDto.getTuitionClassId());
-            var responseWrapper = restTemplate.exchange(uri, HttpMethod.GET,
-                    entity, LocationResponseWrapper.class);
-            var statusCode = Objects.requireNonNull(responseWrapper.getBody()).getStatusCode();
-            if (statusCode != HttpStatus.OK.value()) {
-                throw new InvalidLocationException(INVALID_TUITION_CLASS_EXCEPTION_MESSAGE
-                        + studentRequestDto.getTuitionClassId());
-            }
+            concurrentValidator.validateAll(
+                    () -> validateStudentName(studentRequestDto.getFirstName(), studentRequestDto.getLastName(), null),
+                    () -> locationService.validateLocation(studentRequestDto.getTuitionClassId(), authToken));
             return studentRepository.save(student);
-        } catch (ResourceAccessException e) {
-            throw new ConnectionException("Can not access the resources from other services", e);
-        } catch (HttpClientErrorException e) {
-            if (e.getStatusCode().value() == HttpStatus.BAD_REQUEST.value()) {
-                throw new InvalidLocationException(INVALID_TUITION_CLASS_EXCEPTION_MESSAGE
-                        + studentRequestDto.getTuitionClassId());
-            }
-            throw new StudentException("Getting tuition class by id is failed", e);
         } catch (DataAccessException e) {
             throw new StudentException("Saving student into database is failed", e);
         }
     }
 
     /**
-     * This method get student by id
+     * This method create many students at once. Every distinct tuition class location is validated once and
+     * concurrently, the names are checked with one query and the valid students are inserted in jdbc batches.
+     * Invalid students and the students whose location could not be checked are reported in their own result
+     * without failing the others.
+     *
+     * @param studentRequestDtoList student request dto list
+     * @param authToken             access token
+     * @return BulkStudentResults
+     */
+    public List<BulkStudentItemResponseDto> createStudents(List<StudentRequestDto> studentRequestDtoList,
+                                                           String authToken) {
+        var results = new BulkStudentItemResponseDto[studentRequestDtoList.size()];
+        Map<Integer, StudentRequestDto> validRequests = new LinkedHashMap<>();
+        for (int index = 0; index < studentRequestDtoList.size(); index++) {
+            var studentRequestDto = studentRequestDtoList.get(index);
+            ErrorResponseStatus error = validateStudentRequest(studentRequestDto);
+            if (error != null) {
+                results[index] = new BulkStudentItemResponseDto(index, false, error.getMessage(), null);
+            } else {
+                validRequests.put(index, studentRequestDto);
+            }
+        }
+        Map<String, ErrorResponseStatus> locationErrors = findLocationErrors(validRequests.values(), authToken);
+        Set<String> existingNames = findExistingNames(validRequests.values());
+        List<Student> students = new ArrayList<>();
+        List<Integer> studentIndexes = new ArrayList<>();
+        for (var validRequest : validRequests.entrySet()) {
+            int index = validRequest.getKey();
+            var studentRequestDto = validRequest.getValue();
+            var locationError = locationErrors.get(studentRequestDto.getTuitionClassId());
+            if (locationError != null) {
+                results[index] = new BulkStudentItemResponseDto(index, false, locationError.getMessage(), null);
+            } else if (!existingNames.add(getNameKey(studentRequestDto.getFirstName(),
+                    studentRequestDto.getLastName()))) {
+                results[index] = new BulkStudentItemResponseDto(index, false,
+                        ErrorResponseStatus.STUDENT_ALREADY_EXISTS.getMessage(), null);
+            } else {
+                students.add(new Student(studentRequestDto));
+                studentIndexes.add(index);
+            }
+        }
+        try {
+            studentRepository.saveAll(students);
+        } catch (DataAccessException e) {
+            throw new StudentException("Saving students into database is failed", e);
+        }
+        for (int i = 0; i < students.size(); i++) {
+            int index = studentIndexes.get(i);
+            results[index] = new BulkStudentItemResponseDto(index, true,
+                    SuccessResponseStatus.STUDENT_CREATED.getMessage(), new StudentResponseDto(students.get(i)));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * This method get student by id. The returned student is shared with the cache and must not be modified.
+     *
+     * @param studentId student id
+     * @return StudentResponseDto
+     */
+    public StudentResponseDto getStudentById(String studentId) {
+        return getCachedStudent(studentId).getStudent();
+    }
+
+    /**
+     * This method get the cached student by id, the student is read from the database on a cache miss
+     *
+     * @param studentId student id
+     * @return CachedStudent
+     */
+    public CachedStudent getCachedStudent(String studentId) {
+        return AsyncCaches.getOrLoad(studentCache, studentId, id -> new CachedStudent(findStudentResponse(id)));
+    }
+
+    /**
+     * This method read the student response from the database without loading the entity
+     *
+     * @param studentId student id
+     * @return StudentResponseDto
+     */
+    private StudentResponseDto findStudentResponse(String studentId) {
+        try {
+            return studentRepository.findResponseById(studentId).orElseThrow(() ->
+                    new InvalidStudentException("The given student id is invalid" + studentId));
+        } catch (DataAccessException e) {
+            throw new StudentException("Retrieving student from database is failed", e);
+        }
+    }
+
+    /**
+     * This method get the version of the student without loading it, the cached student is used when available
+     *
+     * @param studentId student id
+     * @return UpdatedAt
+     */
+    public Timestamp getStudentVersion(String studentId) {
+        var cachedStudent = studentCache.synchronous().getIfPresent(studentId);
+        if (cachedStudent != null) {
+            return cachedStudent.getStudent().getUpdatedAt();
+        }
+        try {
+            return studentRepository.findUpdatedAtById(studentId).orElseThrow(() ->
+                    new InvalidStudentException("The given student id is invalid" + studentId));
+        } catch (DataAccessException e) {
+            throw new StudentException("Retrieving student from database is failed", e);
+        }
+    }
+
+    /**
+     * This method get the version of the active student list from the last update time of the students
+     *
+     * @return student list version
+     */
+    public long getStudentListVersion() {
+        try {
+            return studentRepository.findLastUpdatedAt().map(Timestamp::getTime).orElse(0L);
+        } catch (DataAccessException e) {
+            throw new StudentException("Retrieving students details from database is failed", e);
+        }
+    }
+
+    /**
+     * This method load the student from the database
      *
      * @param studentId student id
      * @return Student
      */
-    public Student getStudentById(String studentId) {
+    private Student loadStudent(String studentId) {
         try {
             var optionalStudent = studentRepository.findById(studentId);
             if (optionalStudent.isEmpty()) {
@@ -106,21 +226,89 @@ public class StudentService {
     }
 
     /**
-     * This method get student page
+     * This method get the page of the students matching the filter after the given cursor ordered by updated time
+     * and student id
      *
+     * @param studentFilter student filter
+     * @param cursor        cursor of the previous page or null for the first page
+     * @param size          requested page size, capped by the server
      * @return StudentPage
      */
-    public Page<Student> getStudentsPage() {
+    @Transactional(readOnly = true)
+    public CursorPage<StudentResponseDto> getStudentsPage(StudentFilter studentFilter, String cursor, Integer size) {
+        StudentCursor after = cursor == null || cursor.isBlank() ? null : StudentCursor.decode(cursor);
+        Slice<StudentResponseDto> students = findStudentsSlice(studentFilter, after,
+                PageRequest.of(0, resolvePageSize(size)));
+        if (!students.hasNext()) {
+            return new CursorPage<>(students.getContent(), null);
+        }
+        List<StudentResponseDto> pageContent = students.getContent();
+        return new CursorPage<>(pageContent, StudentCursor.of(pageContent.get(pageContent.size() - 1)).encode());
+    }
+
+    /**
+     * This method get the numbered slice of the students matching the filter. The rows before the page are still
+     * read by the database, the cursor pages should be preferred for deep pages.
+     *
+     * @param studentFilter student filter
+     * @param page          zero based page number
+     * @param size          requested page size, capped by the server
+     * @return StudentSlice
+     */
+    @Transactional(readOnly = true)
+    public Slice<StudentResponseDto> getStudentsSlice(StudentFilter studentFilter, int page, Integer size) {
+        return findStudentsSlice(studentFilter, null, PageRequest.of(page, resolvePageSize(size)));
+    }
+
+    /**
+     * This method get the number of the active students matching the filter, the count is cached for a short time
+     *
+     * @param studentFilter student filter
+     * @return StudentCount
+     */
+    public long getStudentCount(StudentFilter studentFilter) {
+        return AsyncCaches.getOrLoad(studentCountCache, studentFilter.toKey(), key -> countStudents(studentFilter));
+    }
+
+    /**
+     * This method read the students slice, the unfiltered list uses the static keyset queries
+     *
+     * @param studentFilter student filter
+     * @param after         cursor of the previous page or null for the first page
+     * @param pageable      page number and size
+     * @return StudentResponseDtoSlice
+     */
+    private Slice<StudentResponseDto> findStudentsSlice(StudentFilter studentFilter, StudentCursor after,
+                                                        Pageable pageable) {
         try {
-            Pageable pageable = PageRequest.of(PAGE, SIZE, Sort.by(DEFAULT_SORT).ascending());
-            return studentRepository.findAll(pageable);
+            if (!studentFilter.isEmpty()) {
+                return studentRepository.findFilteredSlice(studentFilter, after, pageable);
+            }
+            return after == null
+                    ? studentRepository.findFirstPage(pageable)
+                    : studentRepository.findPageAfter(after.getUpdatedAtTimestamp(), after.getStudentId(), pageable);
         } catch (DataAccessException e) {
             throw new StudentException("Retrieving students details from database is failed", e);
         }
     }
 
     /**
-     * This method existing update student
+     * This method count the active students matching the filter in the database
+     *
+     * @param studentFilter student filter
+     * @return StudentCount
+     */
+    private Long countStudents(StudentFilter studentFilter) {
+        try {
+            return studentRepository.countFiltered(studentFilter);
+        } catch (DataAccessException e) {
+            throw new StudentException("Counting students in database is failed", e);
+        }
+    }
+
+    /**
+     * This method existing update student. A student changed by another request after it is loaded is rejected
+     * as a version conflict.
      *
      * @param updateStudentRequestDto update student request dto
      * @param authToken               access token
@@ -128,54 +316,231 @@ public class StudentService {
      */
     public Student updateStudent(UpdateStudentRequestDto updateStudentRequestDto, String authToken) {
         try {
-            Student studentFromDB = getStudentById(updateStudentRequestDto.getStudentId());
-            if (checkStudentExistence(updateStudentRequestDto.getFirstName(), updateStudentRequestDto.getLastName(),
-                    updateStudentRequestDto.getStudentId())) {
-                throw new StudentAlreadyExistsException("Student already exists");
-            }
-            var header = new HttpHeaders();
-            header.set(Constants.TOKEN_HEADER, authToken.trim());
-            var entity = new HttpEntity<String>(header);
-            String uri = getLocationUrl.replace(LOCATION_ID_REPLACE_PHRASE, updateStudentRequestDto.getTuitionClassId());
-            var responseWrapper = restTemplate.exchange(uri, HttpMethod.GET,
-                    entity, LocationResponseWrapper.class);
-            var statusCode = Objects.requireNonNull(responseWrapper.getBody()).getStatusCode();
-            if (statusCode != HttpStatus.OK.value()) {
-                throw new InvalidLocationException(INVALID_TUITION_CLASS_EXCEPTION_MESSAGE
-                        + updateStudentRequestDto.getTuitionClassId());
-            }
+            Student studentFromDB = loadStudent(updateStudentRequestDto.getStudentId());
+            concurrentValidator.validateAll(
+                    () -> validateStudentName(updateStudentRequestDto.getFirstName(),
+                            updateStudentRequestDto.getLastName(), updateStudentRequestDto.getStudentId()),
+                    () -> locationService.validateLocation(updateStudentRequestDto.getTuitionClassId(), authToken));
             studentFromDB.update(updateStudentRequestDto);
             studentRepository.save(studentFromDB);
+            studentCache.synchronous().invalidate(updateStudentRequestDto.getStudentId());
             return studentFromDB;
-        } catch (ResourceAccessException e) {
-            throw new ConnectionException("Can not access the resources from other services", e);
-        } catch (HttpClientErrorException e) {
-            if (e.getStatusCode().value() == HttpStatus.BAD_REQUEST.value()) {
-                throw new InvalidLocationException(INVALID_TUITION_CLASS_EXCEPTION_MESSAGE
-                        + updateStudentRequestDto.getTuitionClassId());
+        } catch (OptimisticLockingFailureException e) {
+            throw new StudentVersionConflictException("The student " + updateStudentRequestDto.getStudentId()
+                    + " is changed while it is updated", e);
+        } catch (DataAccessException e) {
+            throw new StudentException("Updating student to database is failed", e);
+        }
+    }
+
+    /**
+     * This method update only the given fields of the student with a single update statement, when the student is
+     * still at the version the client has read. The name and the location are validated only when they are
+     * changed. The current version is read only to tell a changed student from a missing one.
+     *
+     * @param patchStudentRequestDto patch student request dto
+     * @param authToken              access token
+     * @return PatchStudentResponseDto
+     */
+    public PatchStudentResponseDto patchStudent(PatchStudentRequestDto patchStudentRequestDto, String authToken) {
+        String studentId = patchStudentRequestDto.getStudentId();
+        try {
+            List<Runnable> validations = new ArrayList<>(2);
+            if (patchStudentRequestDto.isNameChanged()) {
+                validations.add(() -> validatePatchedStudentName(patchStudentRequestDto));
+            }
+            if (patchStudentRequestDto.getTuitionClassId() != null) {
+                validations.add(() -> locationService.validateLocation(patchStudentRequestDto.getTuitionClassId(),
+                        authToken));
+            }
+            if (!validations.isEmpty()) {
+                concurrentValidator.validateAll(validations.toArray(new Runnable[0]));
             }
-            throw new StudentException("Getting tuition class by id is failed", e);
+            var updatedAt = new Timestamp(System.currentTimeMillis());
+            if (studentRepository.patchStudent(patchStudentRequestDto, updatedAt) == 0) {
+                if (studentRepository.findVersionById(studentId).isEmpty()) {
+                    throw new InvalidStudentException("The given student id is invalid" + studentId);
+                }
+                throw new StudentVersionConflictException("The student " + studentId + " is not at version "
+                        + patchStudentRequestDto.getVersion());
+            }
+            studentCache.synchronous().invalidate(studentId);
+            return new PatchStudentResponseDto(studentId, patchStudentRequestDto.getVersion() + 1, updatedAt);
         } catch (DataAccessException e) {
             throw new StudentException("Updating student to database is failed", e);
         }
     }
 
     /**
-     * This method delete the student
+     * This method validate the changed name, the name part which is not changed is read from the database
+     *
+     * @param patchStudentRequestDto patch student request dto
+     */
+    private void validatePatchedStudentName(PatchStudentRequestDto patchStudentRequestDto) {
+        String studentId = patchStudentRequestDto.getStudentId();
+        String firstName = patchStudentRequestDto.getFirstName();
+        String lastName = patchStudentRequestDto.getLastName();
+        if (firstName == null || lastName == null) {
+            var studentName = studentRepository.findNameById(studentId)
+                    .orElseThrow(() -> new InvalidStudentException("The given student id is invalid" + studentId));
+            firstName = firstName == null ? studentName.getFirstName() : firstName;
+            lastName = lastName == null ? studentName.getLastName() : lastName;
+        }
+        validateStudentName(firstName, lastName, studentId);
+    }
+
+    /**
+     * This method delete the student with a single update statement
      *
      * @param studentId student id
      */
     public void deleteStudent(String studentId) {
         try {
-            Student studentFromDB = getStudentById(studentId);
-            studentFromDB.setDeleted(true);
-            studentFromDB.setUpdatedAt(new Date(System.currentTimeMillis()));
-            studentRepository.save(studentFromDB);
+            if (studentRepository.softDeleteById(studentId, new Timestamp(System.currentTimeMillis())) == 0) {
+                throw new InvalidStudentException("The given student id is invalid" + studentId);
+            }
+            studentCache.synchronous().invalidate(studentId);
         } catch (DataAccessException e) {
             throw new StudentException("Deleting student is failed", e);
         }
     }
 
+    /**
+     * This method delete the given students or all the students of the tuition class. The students are deleted
+     * with one update statement per chunk of ids, the not existing and already deleted students are skipped. Every
+     * chunk commits on its own, so its students are removed from the cache before the next chunk runs.
+     *
+     * @param deleteStudentsRequestDto delete students request dto
+     * @return number of deleted students
+     */
+    public int deleteStudents(DeleteStudentsRequestDto deleteStudentsRequestDto) {
+        try {
+            List<String> studentIds = deleteStudentsRequestDto.isByTuitionClass()
+                    ? studentRepository.findIdsByTuitionClassId(deleteStudentsRequestDto.getTuitionClassId())
+                    : deleteStudentsRequestDto.getStudentIds().stream().distinct().collect(Collectors.toList());
+            long deletedAt = 0;
+            int deletedCount = 0;
+            for (int from = 0; from < studentIds.size(); from += DELETE_CHUNK_SIZE) {
+                List<String> chunk = studentIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, studentIds.size()));
+                // every chunk commits on its own, a later deleted at moves the list version past the earlier chunk
+                deletedAt = Math.max(System.currentTimeMillis(), deletedAt + 1);
+                deletedCount += studentRepository.softDeleteByIds(chunk, new Timestamp(deletedAt));
+                studentCache.synchronous().invalidateAll(chunk);
+            }
+            return deletedCount;
+        } catch (DataAccessException e) {
+            throw new StudentException("Deleting students is failed", e);
+        }
+    }
+
+    /**
+     * This method validate the fields of a bulk student request
+     *
+     * @param studentRequestDto student request dto
+     * @return ErrorResponseStatus/ null when valid
+     */
+    private ErrorResponseStatus validateStudentRequest(StudentRequestDto studentRequestDto) {
+        if (studentRequestDto == null || !studentRequestDto.isRequiredAvailable()) {
+            return ErrorResponseStatus.MISSING_REQUIRED_FIELDS;
+        }
+        if (!studentRequestDto.validAge()) {
+            return ErrorResponseStatus.INVALID_AGE;
+        }
+        if (!studentRequestDto.validGender()) {
+            return ErrorResponseStatus.INVALID_GENDER;
+        }
+        return null;
+    }
+
+    /**
+     * This method validate every distinct tuition class location once. The locations are validated concurrently,
+     * so the location lookups can share the location service batches. A location which could not be checked
+     * fails only its own students.
+     *
+     * @param studentRequestDtoList student request dto list
+     * @param authToken             access token
+     * @return LocationErrors by location id
+     */
+    private Map<String, ErrorResponseStatus> findLocationErrors(Collection<StudentRequestDto> studentRequestDtoList,
+                                                                String authToken) {
+        Set<String> locationIds = studentRequestDtoList.stream().map(StudentRequestDto::getTuitionClassId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, ErrorResponseStatus> locationErrors = new HashMap<>();
+        concurrentValidator.validateEach(locationIds, locationId ->
+                locationService.validateLocation(locationId, authToken)).forEach((locationId, failure) -> {
+            if (failure instanceof InvalidLocationException) {
+                locationErrors.put(locationId, ErrorResponseStatus.INVALID_TUITION_CLASS_LOCATION);
+            } else if (failure instanceof ConnectionException) {
+                log.error("Validating the location {} of the students is failed. Error message: {}", locationId,
+                        failure.getMessage());
+                locationErrors.put(locationId, ErrorResponseStatus.INTER_CONNECTION_FAILED);
+            } else {
+                throw failure;
+            }
+        });
+        return locationErrors;
+    }
+
+    /**
+     * This method find the already existing student names with a single query
+     *
+     * @param studentRequestDtoList student request dto list
+     * @return ExistingNameKeys
+     */
+    private Set<String> findExistingNames(Collection<StudentRequestDto> studentRequestDtoList) {
+        if (studentRequestDtoList.isEmpty()) {
+            return new HashSet<>();
+        }
+        Set<String> firstNames = studentRequestDtoList.stream().map(StudentRequestDto::getFirstName)
+                .collect(Collectors.toSet());
+        Set<String> lastNames = studentRequestDtoList.stream().map(StudentRequestDto::getLastName)
+                .collect(Collectors.toSet());
+        try {
+            return studentRepository.findNamesByFirstNameInAndLastNameIn(firstNames, lastNames).stream()
+                    .map(name -> getNameKey(name.getFirstName(), name.getLastName()))
+                    .collect(Collectors.toCollection(HashSet::new));
+        } catch (DataAccessException e) {
+            throw new StudentException("Checking the student record in database is failed", e);
+        }
+    }
+
+    /**
+     * This method create the name key, MySQL compares the names case insensitively
+     *
+     * @param firstName first name
+     * @param lastName  last name
+     * @return NameKey
+     */
+    private String getNameKey(String firstName, String lastName) {
+        return (firstName + '\u0000' + lastName).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * This method resolve the page size within the server limits
+     *
+     * @param size requested page size
+     * @return page size
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * This method validate the student name is not used by another student
+     *
+     * @param firstName first name
+     * @param lastName  last name
+     * @param studentId student id
+     */
+    private void validateStudentName(String firstName, String lastName, String studentId) {
+        if (checkStudentExistence(firstName, lastName, studentId)) {
+            throw new StudentAlreadyExistsException("Student already exists");
+        }
+    }
+
     /**
      * This method check existence of the student
      *
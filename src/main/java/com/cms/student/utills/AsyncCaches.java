@@ -0,0 +1,63 @@
+package com.cms.student.utills;
+
+import com.cms.student.exception.StudentException;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Loads the async cache entries on the calling thread. Cache.get runs the loader inside the map compute, which holds
+ * a monitor for the whole database call and pins a virtual thread to its carrier. Here only the future is put in
+ * the cache, the concurrent callers of the same key wait for it and an invalidation during the load removes it, so
+ * a value read before a change is not cached.
+ */
+public final class AsyncCaches {
+
+    private AsyncCaches() {
+    }
+
+    /**
+     * This method get the cached value or load it on the calling thread
+     *
+     * @param cache  async cache
+     * @param key    key
+     * @param loader loader of the value on a cache miss
+     * @param <K>    key type
+     * @param <V>    value type
+     * @return value
+     */
+    public static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> cached = cache.getIfPresent(key);
+        if (cached == null) {
+            var loading = new CompletableFuture<V>();
+            cached = cache.asMap().putIfAbsent(key, loading);
+            if (cached == null) {
+                try {
+                    V value = loader.apply(key);
+                    loading.complete(value);
+                    return value;
+                } catch (RuntimeException | Error e) {
+                    loading.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        return await(cached);
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new StudentException("Loading the cached value is failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StudentException("Waiting for the cached value is interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.cms.student.utills;
+
+import com.cms.student.exception.ConnectionException;
+import com.cms.student.exception.StudentException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs independent validations concurrently within an overall deadline. The first failure is rethrown as is and
+ * the validations still running are cancelled, or every failure is collected by the validated key.
+ */
+public class ConcurrentValidator {
+    private final Executor executor;
+    private final long timeoutNanos;
+
+    public ConcurrentValidator(Executor executor, long timeoutMillis) {
+        this.executor = executor;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * This method run the validations and wait for all of them to pass
+     *
+     * @param validations validations which throw an exception when invalid
+     */
+    public void validateAll(Runnable... validations) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        var completionService = new ExecutorCompletionService<Void>(executor);
+        List<Future<Void>> futures = new ArrayList<>(validations.length);
+        try {
+            for (Runnable validation : validations) {
+                futures.add(completionService.submit(validation, null));
+            }
+            for (int i = 0; i < validations.length; i++) {
+                Future<Void> completed = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (completed == null) {
+                    throw new ConnectionException("Validating the student is not completed within the deadline");
+                }
+                completed.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new StudentException("Validating the student is failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StudentException("Validating the student is interrupted", e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * This method run the validation of every key and wait for all of them to finish. A failure does not stop the
+     * other validations, the keys not validated within the deadline fail with a ConnectionException.
+     *
+     * @param keys       keys to validate
+     * @param validation validation which throws an exception when the key is invalid
+     * @param <T>        key type
+     * @return failures by key, empty when every key is valid
+     */
+    public <T> Map<T, RuntimeException> validateEach(Collection<T> keys, Consumer<T> validation) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        var completionService = new ExecutorCompletionService<T>(executor);
+        Map<Future<T>, T> futures = new LinkedHashMap<>();
+        try {
+            for (T key : keys) {
+                futures.put(completionService.submit(() -> validation.accept(key), key), key);
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                if (completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS) == null) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StudentException("Validating the student is interrupted", e);
+        } finally {
+            futures.keySet().forEach(future -> future.cancel(true));
+        }
+        Map<T, RuntimeException> failures = new HashMap<>();
+        futures.forEach((future, key) -> {
+            if (future.isCancelled()) {
+                failures.put(key, new ConnectionException("Validating " + key + " is not completed within the "
+                        + "deadline"));
+                return;
+            }
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                failures.put(key, e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                        : new StudentException("Validating the student is failed", e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new StudentException("Validating the student is interrupted", e);
+            }
+        });
+        return failures;
+    }
+
+    public void shutdown() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+}
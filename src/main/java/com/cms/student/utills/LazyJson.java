@@ -0,0 +1,23 @@
+package com.cms.student.utills;
+
+import java.util.function.Supplier;
+
+/**
+ * Log argument which serializes its payload only when the log line is written
+ */
+public final class LazyJson {
+    private final Supplier<String> json;
+
+    private LazyJson(Supplier<String> json) {
+        this.json = json;
+    }
+
+    public static LazyJson of(Supplier<String> json) {
+        return new LazyJson(json);
+    }
+
+    @Override
+    public String toString() {
+        return json.get();
+    }
+}
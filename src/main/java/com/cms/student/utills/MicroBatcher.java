@@ -0,0 +1,140 @@
+package com.cms.student.utills;
+
+import com.cms.student.exception.ConnectionException;
+import com.cms.student.exception.StudentException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects the lookups of a group arriving within a short window, or until the batch is full, and resolves them
+ * together. The first caller of a batch waits out the window and resolves the batch, the caller which fills a batch
+ * resolves it at once. Every caller then waits for its own result until the deadline. A result whose deadline has
+ * passed is completed with the timeout, so a resolver which has not reached it yet can skip it.
+ *
+ * @param <G> group type, only the lookups of the same group are batched together
+ * @param <K> key type
+ * @param <V> result type
+ */
+public class MicroBatcher<G, K, V> {
+    private final BatchResolver<G, K, V> resolver;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final long timeoutNanos;
+    private final Lock lock = new ReentrantLock();
+    private final Map<G, Map<K, CompletableFuture<V>>> openBatches = new HashMap<>();
+
+    public MicroBatcher(BatchResolver<G, K, V> resolver, int maxBatchSize, long windowMillis, long timeoutMillis) {
+        this.resolver = resolver;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * This method add the lookup to the open batch of the group and wait for its result
+     *
+     * @param group group of the lookup
+     * @param key   key of the lookup
+     * @return result of the lookup
+     */
+    public V submit(G group, K key) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        Map<K, CompletableFuture<V>> batch;
+        CompletableFuture<V> result;
+        boolean first = false;
+        boolean full = false;
+        lock.lock();
+        try {
+            batch = openBatches.get(group);
+            if (batch == null) {
+                batch = new LinkedHashMap<>();
+                openBatches.put(group, batch);
+                first = true;
+            }
+            result = batch.computeIfAbsent(key, batchKey -> new CompletableFuture<>());
+            if (batch.size() >= maxBatchSize) {
+                openBatches.remove(group);
+                full = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full) {
+            resolve(group, batch);
+        } else if (first) {
+            awaitWindow(result);
+            if (close(group, batch)) {
+                resolve(group, batch);
+            }
+        }
+        return await(result, deadline);
+    }
+
+    private boolean close(G group, Map<K, CompletableFuture<V>> batch) {
+        lock.lock();
+        try {
+            return openBatches.remove(group, batch);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void resolve(G group, Map<K, CompletableFuture<V>> batch) {
+        try {
+            resolver.resolve(group, Collections.unmodifiableMap(batch));
+        } catch (RuntimeException e) {
+            batch.values().forEach(result -> result.completeExceptionally(e));
+        }
+    }
+
+    private void awaitWindow(CompletableFuture<V> result) {
+        try {
+            result.get(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // the window is over, or the batch is already resolved by the caller which filled it
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private V await(CompletableFuture<V> result, long deadline) {
+        try {
+            return result.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            var timeout = new ConnectionException("The batched lookup is not completed within the deadline");
+            if (result.completeExceptionally(timeout)) {
+                throw timeout;
+            }
+            return await(result, deadline);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new StudentException("The batched lookup is failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StudentException("Waiting for the batched lookup is interrupted", e);
+        }
+    }
+
+    /**
+     * Resolves a closed batch by completing the result of every lookup, synchronously or later
+     *
+     * @param <G> group type
+     * @param <K> key type
+     * @param <V> result type
+     */
+    @FunctionalInterface
+    public interface BatchResolver<G, K, V> {
+        void resolve(G group, Map<K, CompletableFuture<V>> lookups);
+    }
+}
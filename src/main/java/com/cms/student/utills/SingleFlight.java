@@ -0,0 +1,85 @@
+package com.cms.student.utills;
+
+import com.cms.student.exception.ConnectionException;
+import com.cms.student.exception.StudentException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces the concurrent calls with the same key. The first caller runs the call and the callers arriving while
+ * it runs wait for its result or exception instead of calling again. A call which runs past the deadline is not
+ * joined any more, the waiters give up and the next caller starts a new call.
+ *
+ * @param <K> key type
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+
+    public SingleFlight(long timeoutMillis) {
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * This method run the call or join the call already running with the same key
+     *
+     * @param key  key of the call
+     * @param call call which gives the result
+     * @return result of the call
+     */
+    public V execute(K key, Supplier<V> call) {
+        long now = System.nanoTime();
+        var flight = new Flight<V>(now + timeoutNanos);
+        Flight<V> running = flights.compute(key, (flightKey, current) ->
+                current == null || current.isExpired(now) ? flight : current);
+        if (running != flight) {
+            return running.await();
+        }
+        try {
+            V result = call.get();
+            flight.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final long deadline;
+
+        private Flight(long deadline) {
+            this.deadline = deadline;
+        }
+
+        private boolean isExpired(long now) {
+            return deadline - now <= 0;
+        }
+
+        private V await() {
+            try {
+                return result.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                throw new ConnectionException("The shared call is not completed within the deadline");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new StudentException("The shared call is failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new StudentException("Waiting for the shared call is interrupted", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.cms.student.utills;
+
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.exception.InvalidCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position over (updated_at, student_id)
+ */
+@Getter
+public class StudentCursor {
+    private static final String SEPARATOR = ":";
+    private final long updatedAt;
+    private final String studentId;
+
+    public StudentCursor(long updatedAt, String studentId) {
+        this.updatedAt = updatedAt;
+        this.studentId = studentId;
+    }
+
+    public static StudentCursor of(StudentResponseDto student) {
+        return new StudentCursor(student.getUpdatedAt().getTime(), student.getStudentId());
+    }
+
+    /**
+     * This method decode the cursor token given by the client
+     *
+     * @param token cursor token
+     * @return StudentCursor
+     */
+    public static StudentCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = value.indexOf(SEPARATOR);
+            if (separatorIndex <= 0 || separatorIndex == value.length() - 1) {
+                throw new InvalidCursorException("The given cursor is invalid: " + token);
+            }
+            return new StudentCursor(Long.parseLong(value.substring(0, separatorIndex)),
+                    value.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("The given cursor is invalid: " + token, e);
+        }
+    }
+
+    /**
+     * This method encode the cursor as an url safe token
+     *
+     * @return cursor token
+     */
+    public String encode() {
+        String value = updatedAt + SEPARATOR + studentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Timestamp getUpdatedAtTimestamp() {
+        return new Timestamp(updatedAt);
+    }
+}
@@ -0,0 +1,51 @@
+package com.cms.student.utills;
+
+import com.cms.student.domain.filter.StudentFilter;
+import com.cms.student.domain.response.StudentResponseDto;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+
+/**
+ * Weak entity tags of the student responses. The same student data is sent as json, smile or cbor and may be gzip
+ * compressed, so the bytes of a tag differ by the accept and accept-encoding headers, only the data is the same.
+ */
+public final class StudentETag {
+    private static final String SEPARATOR = "-";
+    private static final String WEAK_PREFIX = "W/\"";
+    private static final String SUFFIX = "\"";
+
+    private StudentETag() {
+    }
+
+    public static String of(StudentResponseDto student) {
+        return of(student.getStudentId(), student.getUpdatedAt());
+    }
+
+    public static String of(String studentId, Timestamp updatedAt) {
+        return weak(studentId + SEPARATOR + updatedAt.getTime());
+    }
+
+    /**
+     * This method creates the entity tag of a student list page, the page is identified by the filter, the cursor
+     * or the page number and the size
+     *
+     * @param studentListVersion version of the active student list
+     * @param studentFilter      student filter
+     * @param cursor             page cursor
+     * @param page               page number
+     * @param size               page size
+     * @return ETag
+     */
+    public static String ofList(long studentListVersion, StudentFilter studentFilter, String cursor, Integer page,
+                                Integer size) {
+        String value = studentListVersion + SEPARATOR + studentFilter.toKey() + SEPARATOR + cursor + SEPARATOR + page
+                + SEPARATOR + size;
+        return weak(DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String weak(String value) {
+        return WEAK_PREFIX + value + SUFFIX;
+    }
+}
@@ -0,0 +1,77 @@
+package com.cms.student.utills;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Search terms of the student name search. When every term is long enough for the full text index the terms are
+ * matched as required prefixes in boolean mode, a query with a shorter term falls back to name prefix matches.
+ */
+@Getter
+public class StudentSearchQuery {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private final String fullTextQuery;
+    private final List<String> prefixes;
+
+    private StudentSearchQuery(String fullTextQuery, List<String> prefixes) {
+        this.fullTextQuery = fullTextQuery;
+        this.prefixes = prefixes;
+    }
+
+    /**
+     * This method split the search text into terms of letters and digits. The boolean mode operators and the like
+     * wildcards are separators, so the user input can not change the meaning of the queries. The full text index
+     * does not hold a term shorter than minTokenLength, so a query with such a term falls back to the name
+     * prefixes. In the prefix fallback every term of at least minPrefixLength is kept, longest first, because the
+     * first one bounds the name index range.
+     *
+     * @param text            search text
+     * @param minTokenLength  shortest term kept in the full text index (innodb_ft_min_token_size)
+     * @param minPrefixLength shortest term matched as a name prefix
+     * @return StudentSearchQuery/ null when the text has no searchable term
+     */
+    public static StudentSearchQuery parse(String text, int minTokenLength, int minPrefixLength) {
+        if (text == null) {
+            return null;
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.trim().toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        boolean hasShortTerm = tokens.stream()
+                .anyMatch(token -> token.length() >= minPrefixLength && token.length() < minTokenLength);
+        if (!hasShortTerm) {
+            var fullTextQuery = new StringBuilder();
+            for (String token : tokens) {
+                if (token.length() >= minTokenLength) {
+                    fullTextQuery.append(fullTextQuery.length() == 0 ? "" : " ").append('+').append(token).append('*');
+                }
+            }
+            if (fullTextQuery.length() > 0) {
+                return new StudentSearchQuery(fullTextQuery.toString(), null);
+            }
+        }
+        List<String> prefixes = new ArrayList<>();
+        for (String token : tokens) {
+            if (token.length() >= minPrefixLength && !prefixes.contains(token)) {
+                prefixes.add(token);
+            }
+        }
+        if (prefixes.isEmpty()) {
+            return null;
+        }
+        prefixes.sort(Comparator.comparingInt(String::length).reversed());
+        return new StudentSearchQuery(null, List.copyOf(prefixes));
+    }
+
+    public boolean isFullText() {
+        return fullTextQuery != null;
+    }
+}
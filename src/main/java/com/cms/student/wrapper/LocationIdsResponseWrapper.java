@@ -0,0 +1,18 @@
+package com.cms.student.wrapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LocationIdsResponseWrapper {
+    private String message;
+    private int statusCode;
+    private List<String> data;
+}
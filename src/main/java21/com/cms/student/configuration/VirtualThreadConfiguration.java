@@ -0,0 +1,48 @@
+package com.cms.student.configuration;
+
+import com.cms.student.utills.ConcurrentValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Built only with the java21 profile. A request and the location call it makes then park a virtual thread while
+ * they wait on the database or the tuition service, the connection pools are what bound the concurrency.
+ */
+@Configuration
+@ConditionalOnProperty(name = "student.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+    private static final String REQUEST_THREAD_NAME_PREFIX = "request-virtual-";
+    private static final String VALIDATION_THREAD_NAME_PREFIX = "validation-virtual-";
+
+    /**
+     * This method makes tomcat run every request on a new virtual thread instead of its worker pool
+     *
+     * @return TomcatProtocolHandlerCustomizer
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(newVirtualThreadExecutor(REQUEST_THREAD_NAME_PREFIX));
+    }
+
+    /**
+     * This method creates the validator which runs every student validation on a new virtual thread
+     *
+     * @param timeoutMillis overall deadline of the validations
+     * @return ConcurrentValidator
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ConcurrentValidator concurrentValidator(
+            @Value("${student.validation.timeout-millis:5000}") long timeoutMillis) {
+        return new ConcurrentValidator(newVirtualThreadExecutor(VALIDATION_THREAD_NAME_PREFIX), timeoutMillis);
+    }
+
+    private static ExecutorService newVirtualThreadExecutor(String threadNamePrefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+    }
+}
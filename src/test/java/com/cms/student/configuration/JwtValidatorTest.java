@@ -0,0 +1,133 @@
+package com.cms.student.configuration;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.cms.student.utills.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtValidatorTest {
+    private static final String KEY = "accessKey";
+    private static final String USER_NAME = "danushan";
+    private static final String ROLE = "ADMIN";
+    private static final String STUDENT_URL = "/api/v1/student";
+    private static final String PROMETHEUS_URL = "/actuator/prometheus";
+    private static final int MANAGEMENT_PORT = 8181;
+
+    private JwtValidator jwtValidator;
+
+    @BeforeEach
+    void setUp() {
+        jwtValidator = new JwtValidator(KEY, 100, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void Should_ReuseVerifiedAuthentication_When_SameTokenIsUsedAgain() throws Exception {
+        String token = createToken(KEY, Instant.now().plusSeconds(60));
+        Authentication first = filter(token);
+        Authentication second = filter(token);
+        assertEquals("\"" + USER_NAME + "\"", first.getName());
+        assertEquals(ROLE, first.getAuthorities().iterator().next().getAuthority());
+        assertSame(first, second);
+    }
+
+    @Test
+    void Should_RejectToken_When_SignatureIsInvalid() {
+        String token = createToken("otherKey", Instant.now().plusSeconds(60));
+        assertThrows(SignatureVerificationException.class, () -> filter(token));
+    }
+
+    @Test
+    void Should_RejectToken_When_TokenIsExpired() {
+        String token = createToken(KEY, Instant.now().minusSeconds(60));
+        assertThrows(TokenExpiredException.class, () -> filter(token));
+    }
+
+    @Test
+    void Should_ThrowBadCredentialsException_When_TokenIsMissing() {
+        var request = new MockHttpServletRequest("GET", STUDENT_URL);
+        request.setServletPath(STUDENT_URL);
+        assertThrows(BadCredentialsException.class, () ->
+                jwtValidator.doFilter(request, new MockHttpServletResponse(), new MockFilterChain()));
+    }
+
+    @Test
+    void Should_SkipValidation_When_PathIsWhiteListed() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/v2/api-docs");
+        request.setServletPath("/v2/api-docs");
+        var filterChain = new MockFilterChain();
+        jwtValidator.doFilter(request, new MockHttpServletResponse(), filterChain);
+        assertNotNull(filterChain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void Should_ThrowBadCredentialsException_When_PrometheusIsRequestedWithoutToken() {
+        var request = new MockHttpServletRequest("GET", PROMETHEUS_URL);
+        request.setServletPath(PROMETHEUS_URL);
+        assertThrows(BadCredentialsException.class, () ->
+                jwtValidator.doFilter(request, new MockHttpServletResponse(), new MockFilterChain()));
+    }
+
+    @Test
+    void Should_SkipValidation_When_RequestIsPermitted() throws Exception {
+        var managementPortValidator = new JwtValidator(KEY, 100, Duration.ofMinutes(5),
+                request -> request.getLocalPort() == MANAGEMENT_PORT);
+        var request = new MockHttpServletRequest("GET", PROMETHEUS_URL);
+        request.setServletPath(PROMETHEUS_URL);
+        request.setLocalPort(MANAGEMENT_PORT);
+        var filterChain = new MockFilterChain();
+        managementPortValidator.doFilter(request, new MockHttpServletResponse(), filterChain);
+        assertNotNull(filterChain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    /**
+     * This method runs the filter with the given token
+     *
+     * @param token jwt token
+     * @return Authentication
+     */
+    private Authentication filter(String token) throws Exception {
+        var request = new MockHttpServletRequest("GET", STUDENT_URL);
+        request.setServletPath(STUDENT_URL);
+        request.addHeader(Constants.TOKEN_HEADER, token);
+        jwtValidator.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    /**
+     * This method creates a signed token
+     *
+     * @param key       signing key
+     * @param expiresAt expiry time
+     * @return Token
+     */
+    private String createToken(String key, Instant expiresAt) {
+        return JWT.create()
+                .withClaim("username", USER_NAME)
+                .withClaim("authorities", List.of(ROLE))
+                .withExpiresAt(expiresAt)
+                .sign(Algorithm.HMAC256(key));
+    }
+}
@@ -0,0 +1,37 @@
+package com.cms.student.configuration;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RestTemplateConfigTest {
+    private static final long VALIDATION_TIMEOUT_MILLIS = 5000;
+    private static final long IDLE_CONNECTION_TIMEOUT_SECONDS = 30;
+
+    private final RestTemplateConfig restTemplateConfig = new RestTemplateConfig();
+    private final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.close();
+    }
+
+    @Test
+    void Should_CreateHttpClient_When_TimeoutsEndBeforeValidationDeadline() throws IOException {
+        try (var httpClient = restTemplateConfig.httpClient(connectionManager, 1000, 3000, 500,
+                IDLE_CONNECTION_TIMEOUT_SECONDS, VALIDATION_TIMEOUT_MILLIS)) {
+            assertNotNull(httpClient);
+        }
+    }
+
+    @Test
+    void Should_ThrowIllegalStateException_When_TimeoutsExceedValidationDeadline() {
+        assertThrows(IllegalStateException.class, () -> restTemplateConfig.httpClient(connectionManager, 2000, 3000,
+                1000, IDLE_CONNECTION_TIMEOUT_SECONDS, VALIDATION_TIMEOUT_MILLIS));
+    }
+}
@@ -0,0 +1,44 @@
+package com.cms.student.configuration;
+
+import com.cms.student.utills.ConcurrentValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationConfigurationTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ValidationConfiguration.class));
+
+    @Test
+    void Should_CreatePooledValidator_When_NoOtherValidatorIsDefined() {
+        contextRunner.withPropertyValues("student.virtual-threads.enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(ConcurrentValidator.class));
+    }
+
+    @Test
+    void Should_KeepDefinedValidator_When_ApplicationDefinesValidator() {
+        contextRunner.withUserConfiguration(DefinedValidatorConfiguration.class)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ConcurrentValidator.class);
+                    assertThat(context.getBean(ConcurrentValidator.class))
+                            .isSameAs(context.getBean(DefinedValidatorConfiguration.class).validator);
+                });
+    }
+
+    @Configuration
+    static class DefinedValidatorConfiguration {
+        private final ConcurrentValidator validator = new ConcurrentValidator(Executors.newSingleThreadExecutor(),
+                1000);
+
+        @Bean(destroyMethod = "shutdown")
+        public ConcurrentValidator definedValidator() {
+            return validator;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.cms.student.configuration.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DebugSamplingTurboFilterTest {
+    private static final String HOT_MESSAGE = "The student is retrieved successfully for student id: {}";
+    private static final String RARE_MESSAGE = "The invalid age {} is given to create new student";
+
+    private DebugSamplingTurboFilter debugSamplingTurboFilter;
+    private Logger studentLogger;
+    private Logger frameworkLogger;
+
+    @BeforeEach
+    void setUp() {
+        var loggerContext = new LoggerContext();
+        studentLogger = loggerContext.getLogger("com.cms.student.controller.StudentController");
+        studentLogger.setLevel(Level.DEBUG);
+        frameworkLogger = loggerContext.getLogger("org.hibernate.SQL");
+        frameworkLogger.setLevel(Level.DEBUG);
+        debugSamplingTurboFilter = new DebugSamplingTurboFilter();
+        debugSamplingTurboFilter.setSampleRate(10);
+        debugSamplingTurboFilter.setLoggerPrefix("com.cms.student");
+    }
+
+    @Test
+    void Should_KeepOneOfSampleRateLines_When_SameDebugMessageIsLoggedRepeatedly() {
+        List<FilterReply> replies = decide(studentLogger, Level.DEBUG, HOT_MESSAGE, 100);
+        assertEquals(10, replies.stream().filter(reply -> reply == FilterReply.NEUTRAL).count());
+        assertEquals(FilterReply.NEUTRAL, decide(studentLogger, Level.DEBUG, RARE_MESSAGE, 1).get(0));
+    }
+
+    @Test
+    void Should_KeepAllLines_When_LevelIsInfoOrAbove() {
+        List<FilterReply> replies = decide(studentLogger, Level.INFO, HOT_MESSAGE, 100);
+        assertEquals(100, replies.stream().filter(reply -> reply == FilterReply.NEUTRAL).count());
+    }
+
+    @Test
+    void Should_KeepAllLines_When_LoggerIsOutsideThePrefix() {
+        List<FilterReply> replies = decide(frameworkLogger, Level.DEBUG, HOT_MESSAGE, 100);
+        assertEquals(100, replies.stream().filter(reply -> reply == FilterReply.NEUTRAL).count());
+    }
+
+    private List<FilterReply> decide(Logger logger, Level level, String format, int count) {
+        List<FilterReply> replies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            replies.add(debugSamplingTurboFilter.decide(null, logger, level, format, new Object[]{i}, null));
+        }
+        return replies;
+    }
+}
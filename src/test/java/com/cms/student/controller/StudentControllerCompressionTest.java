@@ -0,0 +1,129 @@
+package com.cms.student.controller;
+
+import com.cms.student.configuration.MessageConverterConfiguration;
+import com.cms.student.configuration.VaryAcceptFilter;
+import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.filter.StudentFilter;
+import com.cms.student.domain.page.CursorPage;
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.enums.Gender;
+import com.cms.student.enums.StudentStatus;
+import com.cms.student.exception.GlobalExceptionHandler;
+import com.cms.student.service.StudentArchiveService;
+import com.cms.student.service.StudentChangeService;
+import com.cms.student.service.StudentExportService;
+import com.cms.student.service.StudentSearchService;
+import com.cms.student.service.StudentService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * The responses are compressed by the embedded tomcat, so the student list is read from a started server with the
+ * server.compression settings of application.yml
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        classes = StudentControllerCompressionTest.WebConfiguration.class)
+class StudentControllerCompressionTest {
+    private static final String STUDENT_LIST_PATH = "/student/api/v1/student";
+    private static final int PAGE_SIZE = 50;
+    private static final int MIN_COMPRESSED_SIZE = 2048;
+    private static final Timestamp UPDATED_AT = Timestamp.valueOf("2023-03-01 10:15:30");
+
+    @LocalServerPort
+    private int port;
+    @MockBean
+    private StudentService studentService;
+    @MockBean
+    private StudentExportService studentExportService;
+    @MockBean
+    private StudentSearchService studentSearchService;
+    @MockBean
+    private StudentArchiveService studentArchiveService;
+    @MockBean
+    private StudentChangeService studentChangeService;
+
+    @Test
+    void Should_CompressStudentList_When_GzipIsAccepted() throws Exception {
+        when(studentService.getStudentListVersion()).thenReturn(UPDATED_AT.getTime());
+        when(studentService.getStudentsPage(any(StudentFilter.class), eq(null), eq(null))).thenReturn(getSamplePage());
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + STUDENT_LIST_PATH))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(request,
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(HttpStatus.OK.value(), response.statusCode());
+        assertEquals("gzip", response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        assertTrue(response.headers().firstValue(HttpHeaders.ETAG).orElseThrow().startsWith("W/"));
+        byte[] responseBody = gunzip(response.body());
+        assertTrue(responseBody.length > MIN_COMPRESSED_SIZE);
+        JsonNode studentList = new ObjectMapper().readTree(responseBody);
+        assertEquals(PAGE_SIZE, studentList.path("data").path("students").size());
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static CursorPage<StudentResponseDto> getSamplePage() {
+        List<StudentResponseDto> students = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            var student = new Student();
+            student.setStudentId("sid-" + i);
+            student.setFirstName("Danushan");
+            student.setLastName("Kanagasingam");
+            student.setAddress("Jaffna");
+            student.setGender(Gender.MALE);
+            student.setAge(12);
+            student.setGrade(7);
+            student.setStudentStatus(StudentStatus.COMING);
+            student.setTuitionClassId("tid-1254");
+            student.setJoinedDate(new Date(UPDATED_AT.getTime()));
+            student.setUpdatedAt(UPDATED_AT);
+            students.add(new StudentResponseDto(student));
+        }
+        return new CursorPage<>(students, null);
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({ServletWebServerFactoryAutoConfiguration.class, DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class,
+            JacksonAutoConfiguration.class})
+    @Import({StudentController.class, GlobalExceptionHandler.class, VaryAcceptFilter.class,
+            MessageConverterConfiguration.class})
+    static class WebConfiguration {
+    }
+}
@@ -1,34 +1,63 @@
 package com.cms.student.controller;
 
+import com.cms.student.configuration.VaryAcceptFilter;
+import com.cms.student.domain.cache.CachedStudent;
 import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.filter.StudentFilter;
+import com.cms.student.domain.page.CursorPage;
 import com.cms.student.domain.request.StudentRequestDto;
+import com.cms.student.domain.request.PatchStudentRequestDto;
 import com.cms.student.domain.request.UpdateStudentRequestDto;
+import com.cms.student.domain.response.BulkStudentItemResponseDto;
+import com.cms.student.domain.response.PatchStudentResponseDto;
+import com.cms.student.domain.response.StudentChangeResponseDto;
+import com.cms.student.domain.response.StudentChangesResponseDto;
+import com.cms.student.domain.response.StudentResponseDto;
 import com.cms.student.enums.ErrorResponseStatus;
+import com.cms.student.enums.ExportFormat;
 import com.cms.student.enums.Gender;
 import com.cms.student.enums.StudentStatus;
 import com.cms.student.enums.SuccessResponseStatus;
 import com.cms.student.exception.*;
+import com.cms.student.service.StudentArchiveService;
+import com.cms.student.service.StudentChangeService;
+import com.cms.student.service.StudentExportService;
+import com.cms.student.service.StudentSearchService;
 import com.cms.student.service.StudentService;
 import com.cms.student.utills.Constants;
+import com.cms.student.utills.StudentETag;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -49,16 +78,31 @@ class StudentControllerTest {
     private static final int PHONE_NUMBER = 771109101;
     private static final int AGE = 27;
     private static final int GRADE = 12;
+    private static final int BULK_MAX_SIZE = 2;
+    private static final String NEXT_CURSOR = "MTY3ODAwMDAwMDAwMDpzaWQtMTI1NA";
+    private static final long STUDENT_VERSION = 3;
+    private static final MediaType SMILE_MEDIA_TYPE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final Timestamp UPDATED_AT = Timestamp.valueOf("2023-03-01 10:15:30.125");
 
     @Mock
     private StudentService studentService;
+    @Mock
+    private StudentExportService studentExportService;
+    @Mock
+    private StudentSearchService studentSearchService;
+    @Mock
+    private StudentArchiveService studentArchiveService;
+    @Mock
+    private StudentChangeService studentChangeService;
     private MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
         openMocks(this);
-        StudentController studentController = new StudentController(studentService);
-        mockMvc = MockMvcBuilders.standaloneSetup(studentController).build();
+        StudentController studentController = new StudentController(studentService, studentExportService,
+                studentSearchService, studentArchiveService, studentChangeService, new ObjectMapper(), BULK_MAX_SIZE);
+        mockMvc = MockMvcBuilders.standaloneSetup(studentController)
+                .setControllerAdvice(new GlobalExceptionHandler()).addFilters(new VaryAcceptFilter()).build();
     }
 
     @AfterEach
@@ -111,11 +155,44 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.data", nullValue()));
     }
 
+    @Test
+    void Should_ReturnOk_When_CreateStudentsInBulk() throws Exception {
+        List<BulkStudentItemResponseDto> results = List.of(
+                new BulkStudentItemResponseDto(0, true, SuccessResponseStatus.STUDENT_CREATED.getMessage(),
+                        new StudentResponseDto(getSampleStudent())),
+                new BulkStudentItemResponseDto(1, false, ErrorResponseStatus.INVALID_AGE.getMessage(), null));
+        when(studentService.createStudents(anyList(), anyString())).thenReturn(results);
+        mockMvc.perform(MockMvcRequestBuilders.post(STUDENT_BASE_URL + "/bulk")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .content("[" + getSampleStudentRequestDto().toJson() + "," +
+                                getSampleStudentRequestDto().toJson() + "]")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatus.BULK_STUDENTS_PROCESSED.getMessage()))
+                .andExpect(jsonPath("$.data.createdCount").value(1))
+                .andExpect(jsonPath("$.data.failedCount").value(1))
+                .andExpect(jsonPath("$.data.results[0].student.studentId", startsWith("sid-")))
+                .andExpect(jsonPath("$.data.results[1].message").value(ErrorResponseStatus.INVALID_AGE.getMessage()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_BulkRequestExceedsMaximumSize() throws Exception {
+        String studentJson = getSampleStudentRequestDto().toJson();
+        mockMvc.perform(MockMvcRequestBuilders.post(STUDENT_BASE_URL + "/bulk")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .content("[" + studentJson + "," + studentJson + "," + studentJson + "]")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.INVALID_BULK_SIZE.getMessage()))
+                .andExpect(jsonPath("$.data", nullValue()));
+        verify(studentService, never()).createStudents(anyList(), anyString());
+    }
+
     @Test
     void Should_ReturnOk_When_GetStudentSuccessfully() throws Exception {
         String url = STUDENT_BY_ID_URL.replace(REPLACE_STUDENT_ID, STUDENT_ID);
-        Student student = getSampleStudent();
-        when(studentService.getStudentById(STUDENT_ID)).thenReturn(student);
+        var cachedStudent = new CachedStudent(new StudentResponseDto(getSampleStudent()));
+        when(studentService.getCachedStudent(STUDENT_ID)).thenReturn(cachedStudent);
         mockMvc.perform(MockMvcRequestBuilders.get(url)
                         .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
                         .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
@@ -126,10 +203,103 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.data.studentId", startsWith("sid-")));
     }
 
+    @Test
+    void Should_ReturnSmile_When_SmileIsPreferredForGetStudent() throws Exception {
+        String url = STUDENT_BY_ID_URL.replace(REPLACE_STUDENT_ID, STUDENT_ID);
+        var cachedStudent = new CachedStudent(new StudentResponseDto(getSampleStudent()));
+        when(studentService.getCachedStudent(STUDENT_ID)).thenReturn(cachedStudent);
+        byte[] responseBody = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .header(HttpHeaders.ACCEPT, SMILE_MEDIA_TYPE + ", application/json;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE_MEDIA_TYPE))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(header().string(HttpHeaders.ETAG, StudentETag.of(cachedStudent.getStudent())))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode response = new ObjectMapper(new SmileFactory()).readTree(responseBody);
+        assertEquals(SuccessResponseStatus.READ_STUDENT.getMessage(), response.path("message").asText());
+        assertEquals(FIRST_NAME, response.path("data").path("firstName").asText());
+    }
+
+    @Test
+    void Should_ReturnNotModified_When_StudentETagMatches() throws Exception {
+        String url = STUDENT_BY_ID_URL.replace(REPLACE_STUDENT_ID, STUDENT_ID);
+        String eTag = "W/\"" + STUDENT_ID + "-" + UPDATED_AT.getTime() + "\"";
+        when(studentService.getStudentVersion(STUDENT_ID)).thenReturn(UPDATED_AT);
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        verify(studentService, never()).getCachedStudent(anyString());
+    }
+
+    @Test
+    void Should_ReturnStudentWithETag_When_StudentETagNotMatches() throws Exception {
+        String url = STUDENT_BY_ID_URL.replace(REPLACE_STUDENT_ID, STUDENT_ID);
+        when(studentService.getStudentVersion(STUDENT_ID)).thenReturn(UPDATED_AT);
+        when(studentService.getCachedStudent(STUDENT_ID)).thenReturn(new CachedStudent(new StudentResponseDto(getSampleStudent())));
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + STUDENT_ID + "-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"" + STUDENT_ID + "-" + UPDATED_AT.getTime() + "\""))
+                .andExpect(jsonPath("$.data.studentId").value(STUDENT_ID));
+    }
+
+    @Test
+    void Should_ReturnNotModified_When_StudentListETagMatches() throws Exception {
+        when(studentService.getStudentListVersion()).thenReturn(getSampleStudentListVersion());
+        when(studentService.getStudentsPage(any(StudentFilter.class), eq(null), any())).thenReturn(getSamplePage());
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL).param("size", "10")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+        verify(studentService, times(1)).getStudentsPage(any(StudentFilter.class), eq(null), eq(null));
+    }
+
+    @Test
+    void Should_ReuseSerializedResponse_When_SameStudentIsRequestedAgain() throws Exception {
+        String url = STUDENT_BY_ID_URL.replace(REPLACE_STUDENT_ID, STUDENT_ID);
+        var student = new StudentResponseDto(getSampleStudent());
+        var cachedStudent = new CachedStudent(student);
+        when(studentService.getCachedStudent(STUDENT_ID)).thenReturn(cachedStudent);
+        MvcResult firstResult = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isOk()).andReturn();
+        student.setFirstName(UPDATED_FIRST_NAME);
+        MvcResult secondResult = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.firstName").value(FIRST_NAME)).andReturn();
+        assertEquals(firstResult.getResponse().getContentAsString(), secondResult.getResponse().getContentAsString());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_StudentIdIsInvalid() throws Exception {
+        String url = STUDENT_BY_ID_URL.replace(REPLACE_STUDENT_ID, STUDENT_ID);
+        when(studentService.getCachedStudent(STUDENT_ID)).thenThrow(new InvalidStudentException("ERROR"));
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.INVALID_STUDENT.getMessage()));
+    }
+
     @Test
     void Should_ReturnOk_When_GetAllStudentDetailsSuccessfully() throws Exception {
-        Page<Student> studentPage = getSamplePage();
-        when(studentService.getStudentsPage()).thenReturn(studentPage);
+        CursorPage<StudentResponseDto> studentPage = getSamplePage();
+        when(studentService.getStudentListVersion()).thenReturn(getSampleStudentListVersion());
+        when(studentService.getStudentsPage(argThat(StudentFilter::isEmpty), eq(null), eq(null))).thenReturn(studentPage);
         mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL)
                         .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
                         .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
@@ -137,9 +307,173 @@ class StudentControllerTest {
                 .andExpect(content().contentType("application/json"))
                 .andExpect(jsonPath("$.message").value(SuccessResponseStatus.READ_STUDENT_LIST.getMessage()))
                 .andExpect(jsonPath("$.statusCode").value(HttpStatus.OK.value()))
+                .andExpect(jsonPath("$.data.students[0].studentId", startsWith("sid-")))
+                .andExpect(jsonPath("$.data.nextCursor").value(NEXT_CURSOR));
+    }
+
+    @Test
+    void Should_ReturnSmile_When_SmileIsAcceptedForStudentList() throws Exception {
+        when(studentService.getStudentListVersion()).thenReturn(getSampleStudentListVersion());
+        when(studentService.getStudentsPage(argThat(StudentFilter::isEmpty), eq(null), eq(null)))
+                .thenReturn(getSamplePage());
+        byte[] responseBody = mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .accept(SMILE_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE_MEDIA_TYPE))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode response = new ObjectMapper(new SmileFactory()).readTree(responseBody);
+        assertEquals(SuccessResponseStatus.READ_STUDENT_LIST.getMessage(), response.path("message").asText());
+        assertEquals(NEXT_CURSOR, response.path("data").path("nextCursor").asText());
+        assertEquals(FIRST_NAME, response.path("data").path("students").path(0).path("firstName").asText());
+    }
+
+    @Test
+    void Should_ReturnCbor_When_CborIsAcceptedForStudentList() throws Exception {
+        when(studentService.getStudentListVersion()).thenReturn(getSampleStudentListVersion());
+        when(studentService.getStudentsPage(argThat(StudentFilter::isEmpty), eq(null), eq(null)))
+                .thenReturn(getSamplePage());
+        byte[] responseBody = mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode response = new ObjectMapper(new CBORFactory()).readTree(responseBody);
+        assertEquals(NEXT_CURSOR, response.path("data").path("nextCursor").asText());
+        assertEquals(FIRST_NAME, response.path("data").path("students").path(0).path("firstName").asText());
+    }
+
+    @Test
+    void Should_ReturnJson_When_AnyTypeIsAcceptedForStudentList() throws Exception {
+        when(studentService.getStudentListVersion()).thenReturn(getSampleStudentListVersion());
+        when(studentService.getStudentsPage(argThat(StudentFilter::isEmpty), eq(null), eq(null)))
+                .thenReturn(getSamplePage());
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.data.nextCursor").value(NEXT_CURSOR));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_InvalidCursorIsProvided() throws Exception {
+        when(studentService.getStudentListVersion()).thenReturn(getSampleStudentListVersion());
+        when(studentService.getStudentsPage(any(StudentFilter.class), eq("invalid"), eq(null)))
+                .thenThrow(new InvalidCursorException("ERROR"));
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL).param("cursor", "invalid")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.INVALID_CURSOR.getMessage()))
+                .andExpect(jsonPath("$.data", nullValue()));
+    }
+
+    @Test
+    void Should_ReturnNumberedSlice_When_PageIsProvided() throws Exception {
+        when(studentService.getStudentListVersion()).thenReturn(getSampleStudentListVersion());
+        var pageable = PageRequest.of(2, 1);
+        when(studentService.getStudentsSlice(any(StudentFilter.class), eq(2), eq(1)))
+                .thenReturn(new SliceImpl<>(getSamplePage().getContent(), pageable, true));
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL).param("page", "2").param("size", "1")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.page").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor", nullValue()))
+                .andExpect(jsonPath("$.data.students[0].studentId", startsWith("sid-")));
+        verify(studentService, never()).getStudentsPage(any(), any(), any());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_PageIsGivenWithCursor() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL).param("page", "1").param("cursor", NEXT_CURSOR)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.INVALID_PAGE.getMessage()));
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL).param("page", "-1")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(studentService);
+    }
+
+    @Test
+    void Should_ReturnStudentCount_When_CountIsRequested() throws Exception {
+        when(studentService.getStudentCount(argThat(filter -> Integer.valueOf(GRADE).equals(filter.getGrade()))))
+                .thenReturn(42L);
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL + "/count").param("grade", String.valueOf(GRADE))
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatus.READ_STUDENT_COUNT.getMessage()))
+                .andExpect(jsonPath("$.data.studentCount").value(42));
+    }
+
+    @Test
+    void Should_ReturnFilteredStudents_When_FilterParametersAreProvided() throws Exception {
+        when(studentService.getStudentListVersion()).thenReturn(getSampleStudentListVersion());
+        when(studentService.getStudentsPage(argThat(filter -> TUITION_CLASS_ID.equals(filter.getTuitionClassId())
+                && filter.getGrade() == GRADE && filter.getStudentStatus() == StudentStatus.STOPPED
+                && filter.getGender() == Gender.MALE && filter.getPhoneNumber() == null), eq(null), eq(null)))
+                .thenReturn(getSamplePage());
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL)
+                        .param("tuitionClassId", TUITION_CLASS_ID)
+                        .param("grade", String.valueOf(GRADE))
+                        .param("studentStatus", "Stopped")
+                        .param("gender", GENDER)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.students[0].studentId", startsWith("sid-")));
     }
 
+    @Test
+    void Should_ReturnBadRequest_When_InvalidFilterIsProvided() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL).param("studentStatus", "Graduated")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.INVALID_STUDENT_FILTER.getMessage()));
+        verify(studentService, never()).getStudentsPage(any(), any(), any());
+    }
+
+    @Test
+    void Should_ReturnOk_When_SearchStudentsSuccessfully() throws Exception {
+        when(studentSearchService.searchStudents(FIRST_NAME, null))
+                .thenReturn(List.of(new StudentResponseDto(getSampleStudent())));
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL + "/search").param("query", FIRST_NAME)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatus.SEARCH_STUDENTS.getMessage()))
+                .andExpect(jsonPath("$.data.students[0].firstName").value(FIRST_NAME));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_SearchQueryIsInvalid() throws Exception {
+        when(studentSearchService.searchStudents("*", null)).thenThrow(new InvalidSearchQueryException("ERROR"));
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL + "/search").param("query", "*")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.INVALID_SEARCH_QUERY.getMessage()));
+    }
+
+    @Test
+    void Should_StreamStudents_When_ExportStudentsIsRequested() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write(("{\"studentId\":\"" + STUDENT_ID + "\"}\n").getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(studentExportService).exportStudents(eq(ExportFormat.NDJSON), any(OutputStream.class));
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL + "/export")
+                        .param("format", "NDJSON")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"studentId\":\"" + STUDENT_ID + "\"}\n"));
+    }
+
     @Test
     void Should_ReturnOk_When_UpdateStudentSuccessfully() throws Exception {
         UpdateStudentRequestDto updateStudentRequestDto = getSampleUpdateStudentRequestDto();
@@ -189,6 +523,74 @@ class StudentControllerTest {
     }
 
 
+    @Test
+    void Should_ReturnOkWithNewVersion_When_PatchStudentSuccessfully() throws Exception {
+        PatchStudentRequestDto patchStudentRequestDto = getSamplePatchStudentRequestDto();
+        when(studentService.patchStudent(argThat(request -> STUDENT_ID.equals(request.getStudentId())
+                && request.getPhoneNumber() == PHONE_NUMBER), eq(ACCESS_TOKEN)))
+                .thenReturn(new PatchStudentResponseDto(STUDENT_ID, STUDENT_VERSION + 1, UPDATED_AT));
+        String url = STUDENT_BY_ID_URL.replace(REPLACE_STUDENT_ID, STUDENT_ID);
+        mockMvc.perform(MockMvcRequestBuilders.patch(url)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .content(patchStudentRequestDto.toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"" + STUDENT_ID + "-" + UPDATED_AT.getTime() + "\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatus.STUDENT_UPDATES.getMessage()))
+                .andExpect(jsonPath("$.statusCode").value(HttpStatus.OK.value()))
+                .andExpect(jsonPath("$.data.studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.data.version").value(STUDENT_VERSION + 1));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_VersionIsNotAvailableForPatchStudent() throws Exception {
+        PatchStudentRequestDto patchStudentRequestDto = getSamplePatchStudentRequestDto();
+        patchStudentRequestDto.setVersion(null);
+        String url = STUDENT_BY_ID_URL.replace(REPLACE_STUDENT_ID, STUDENT_ID);
+        mockMvc.perform(MockMvcRequestBuilders.patch(url)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .content(patchStudentRequestDto.toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.MISSING_REQUIRED_FIELDS.getMessage()))
+                .andExpect(jsonPath("$.statusCode").value(HttpStatus.BAD_REQUEST.value()));
+        verifyNoInteractions(studentService);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_InvalidStudentStatusIsProvidedForPatchStudent() throws Exception {
+        PatchStudentRequestDto patchStudentRequestDto = getSamplePatchStudentRequestDto();
+        patchStudentRequestDto.setStudentStatus("Graduated");
+        String url = STUDENT_BY_ID_URL.replace(REPLACE_STUDENT_ID, STUDENT_ID);
+        mockMvc.perform(MockMvcRequestBuilders.patch(url)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .content(patchStudentRequestDto.toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.INVALID_STUDENT_STATUS.getMessage()))
+                .andExpect(jsonPath("$.statusCode").value(HttpStatus.BAD_REQUEST.value()));
+        verifyNoInteractions(studentService);
+    }
+
+    @Test
+    void Should_ReturnConflict_When_PatchedStudentVersionIsOutdated() throws Exception {
+        PatchStudentRequestDto patchStudentRequestDto = getSamplePatchStudentRequestDto();
+        when(studentService.patchStudent(any(PatchStudentRequestDto.class), anyString()))
+                .thenThrow(new StudentVersionConflictException("The student is not at the given version"));
+        String url = STUDENT_BY_ID_URL.replace(REPLACE_STUDENT_ID, STUDENT_ID);
+        mockMvc.perform(MockMvcRequestBuilders.patch(url)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .content(patchStudentRequestDto.toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.STUDENT_VERSION_CONFLICT.getMessage()))
+                .andExpect(jsonPath("$.statusCode").value(HttpStatus.CONFLICT.value()))
+                .andExpect(jsonPath("$.data", nullValue()));
+    }
+
     @Test
     void Should_ReturnOk_When_StudentIsDeletedSuccessfully() throws Exception {
         doNothing().when(studentService).deleteStudent(STUDENT_ID);
@@ -203,6 +605,89 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.data", nullValue()));
     }
 
+    @Test
+    void Should_ReturnDeletedCount_When_StudentsAreDeletedInBulk() throws Exception {
+        when(studentService.deleteStudents(argThat(request -> TUITION_CLASS_ID.equals(request.getTuitionClassId()))))
+                .thenReturn(25);
+        mockMvc.perform(MockMvcRequestBuilders.post(STUDENT_BASE_URL + "/bulk/delete")
+                        .content("{\"tuitionClassId\":\"" + TUITION_CLASS_ID + "\"}")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatus.BULK_STUDENTS_DELETED.getMessage()))
+                .andExpect(jsonPath("$.data.deletedCount").value(25));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_BothStudentIdsAndTuitionClassAreGivenForBulkDelete() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(STUDENT_BASE_URL + "/bulk/delete")
+                        .content("{\"studentIds\":[\"" + STUDENT_ID + "\"],\"tuitionClassId\":\"" + TUITION_CLASS_ID
+                                + "\"}")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.MISSING_REQUIRED_FIELDS.getMessage()));
+        verify(studentService, never()).deleteStudents(any());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_BulkDeleteExceedsMaximumSize() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(STUDENT_BASE_URL + "/bulk/delete")
+                        .content("{\"studentIds\":[\"sid-1\",\"sid-2\",\"sid-3\"]}")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.INVALID_BULK_SIZE.getMessage()));
+        verify(studentService, never()).deleteStudents(any());
+    }
+
+    @Test
+    void Should_ReturnOk_When_StudentIsRestoredSuccessfully() throws Exception {
+        String url = STUDENT_BY_ID_URL.replace(REPLACE_STUDENT_ID, STUDENT_ID) + "/restore";
+        when(studentArchiveService.restoreStudent(STUDENT_ID)).thenReturn(getSampleStudent());
+        mockMvc.perform(MockMvcRequestBuilders.post(url)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatus.STUDENT_RESTORED.getMessage()))
+                .andExpect(jsonPath("$.data.firstName").value(FIRST_NAME));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_RestoredStudentIsNotDeleted() throws Exception {
+        String url = STUDENT_BY_ID_URL.replace(REPLACE_STUDENT_ID, STUDENT_ID) + "/restore";
+        when(studentArchiveService.restoreStudent(STUDENT_ID)).thenThrow(new InvalidStudentException("ERROR"));
+        mockMvc.perform(MockMvcRequestBuilders.post(url)
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.INVALID_STUDENT.getMessage()));
+    }
+
+    @Test
+    void Should_ReturnOk_When_StudentChangesAreRetrievedSuccessfully() throws Exception {
+        var change = new StudentChangeResponseDto(new StudentResponseDto(getSampleStudent()));
+        when(studentChangeService.getStudentChanges(NEXT_CURSOR, 2))
+                .thenReturn(new StudentChangesResponseDto(List.of(change), NEXT_CURSOR, false));
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL + "/changes")
+                        .param("cursor", NEXT_CURSOR).param("size", "2")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatus.READ_STUDENT_CHANGES.getMessage()))
+                .andExpect(jsonPath("$.data.changes[0].changeType").value("UPSERTED"))
+                .andExpect(jsonPath("$.data.changes[0].student.firstName").value(FIRST_NAME))
+                .andExpect(jsonPath("$.data.nextCursor").value(NEXT_CURSOR))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_StudentChangesCursorIsInvalid() throws Exception {
+        when(studentChangeService.getStudentChanges("@@", null)).thenThrow(new InvalidCursorException("ERROR"));
+        mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_BASE_URL + "/changes").param("cursor", "@@")
+                        .header(Constants.TOKEN_HEADER, ACCESS_TOKEN))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatus.INVALID_CURSOR.getMessage()));
+    }
+
     /**
      * This method creates sample student
      *
@@ -221,10 +706,20 @@ class StudentControllerTest {
         student.setFirstName(FIRST_NAME);
         student.setLastName(LAST_NAME);
         student.setJoinedDate(new Date(System.currentTimeMillis()));
+        student.setUpdatedAt(UPDATED_AT);
         student.setTuitionClassId(TUITION_CLASS_ID);
         return student;
     }
 
+    /**
+     * This method creates sample student list version
+     *
+     * @return student list version
+     */
+    private long getSampleStudentListVersion() {
+        return UPDATED_AT.getTime();
+    }
+
     /**
      * This method creates sample student request dto
      *
@@ -268,11 +763,16 @@ class StudentControllerTest {
      *
      * @return StudentPage
      */
-    private Page<Student> getSamplePage() {
-        Student student = getSampleStudent();
-        List<Student> studentList = new ArrayList<>();
-        studentList.add(student);
-        return new PageImpl<>(studentList);
+    private CursorPage<StudentResponseDto> getSamplePage() {
+        List<StudentResponseDto> studentList = new ArrayList<>();
+        studentList.add(new StudentResponseDto(getSampleStudent()));
+        return new CursorPage<>(studentList, NEXT_CURSOR);
     }
 
-}
\ No newline at end of file
+    private PatchStudentRequestDto getSamplePatchStudentRequestDto() {
+        PatchStudentRequestDto patchStudentRequestDto = new PatchStudentRequestDto();
+        patchStudentRequestDto.setVersion(STUDENT_VERSION);
+        patchStudentRequestDto.setPhoneNumber(PHONE_NUMBER);
+        return patchStudentRequestDto;
+    }
+}
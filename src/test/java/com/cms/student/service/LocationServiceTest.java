@@ -0,0 +1,302 @@
+package com.cms.student.service;
+
+import com.cms.student.configuration.CacheConfiguration;
+import com.cms.student.configuration.ResilienceConfiguration;
+import com.cms.student.enums.RemoteCallOutcome;
+import com.cms.student.exception.ConnectionException;
+import com.cms.student.exception.InvalidLocationException;
+import com.cms.student.wrapper.LocationIdsResponseWrapper;
+import com.cms.student.wrapper.LocationResponseWrapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+class LocationServiceTest {
+    private static final String TUITION_CLASS_BASE_URL = "http://localhost:8105";
+    private static final String GET_TUITION_CLASS_BY_ID_URL = "/api/v1/tuition/##LOCATION-ID##";
+    private static final String TUITION_CLASS_ID = "tid-1254-9654-7854-8955";
+    private static final String ACCESS_TOKEN = "ey1365651-14156-51";
+    private static final int MINIMUM_NUMBER_OF_CALLS = 4;
+    private static final int MAX_CONCURRENT_CALLS = 2;
+    private static final long LOOKUP_TIMEOUT_MILLIS = 2000;
+    private static final int CONCURRENT_CALLERS = 20;
+    private static final long BATCH_WINDOW_MILLIS = 200;
+    private static final String GET_TUITION_CLASSES_BY_IDS_URL = "/api/v1/tuition/exists";
+
+    private LocationService locationService;
+    private Cache<String, Boolean> locationValidationCache;
+    private SimpleMeterRegistry simpleMeterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+    @Mock
+    private RestTemplate restTemplate;
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        openMocks(this);
+        locationValidationCache = new CacheConfiguration().locationValidationCache(10, 300, 30, meterRegistry);
+        simpleMeterRegistry = new SimpleMeterRegistry();
+        var resilienceConfiguration = new ResilienceConfiguration();
+        circuitBreaker = resilienceConfiguration.locationCircuitBreaker(50, 50, 1000, 10, MINIMUM_NUMBER_OF_CALLS,
+                10000, 1, meterRegistry);
+        bulkhead = resilienceConfiguration.locationBulkhead(MAX_CONCURRENT_CALLS, 0, meterRegistry);
+        locationService = new LocationService(restTemplate, locationValidationCache, simpleMeterRegistry,
+                circuitBreaker, bulkhead, LOOKUP_TIMEOUT_MILLIS, 0, 1, 1, 1, TUITION_CLASS_BASE_URL,
+                GET_TUITION_CLASS_BY_ID_URL, "");
+    }
+
+    @Test
+    void Should_CallLocationServiceOnce_When_SameLocationIsValidatedRepeatedly() {
+        var locationResponseWrapper = new LocationResponseWrapper("Location retrieved successfully",
+                HttpStatus.OK.value(), null);
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenReturn(ResponseEntity.of(Optional.of(locationResponseWrapper)));
+        locationService.validateLocation(TUITION_CLASS_ID, ACCESS_TOKEN);
+        locationService.validateLocation(TUITION_CLASS_ID, ACCESS_TOKEN);
+        verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class));
+        assertTrue(locationValidationCache.getIfPresent(TUITION_CLASS_ID));
+        assertEquals(1, getLocationRequestCount(RemoteCallOutcome.OK));
+    }
+
+    @Test
+    void Should_CacheInvalidLocation_When_LocationServiceReturnsBadRequest() {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+        assertThrows(InvalidLocationException.class, () ->
+                locationService.validateLocation(TUITION_CLASS_ID, ACCESS_TOKEN));
+        assertThrows(InvalidLocationException.class, () ->
+                locationService.validateLocation(TUITION_CLASS_ID, ACCESS_TOKEN));
+        verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class));
+        assertFalse(locationValidationCache.getIfPresent(TUITION_CLASS_ID));
+        assertEquals(1, getLocationRequestCount(RemoteCallOutcome.BAD_REQUEST));
+    }
+
+    @Test
+    void Should_NotCacheLocation_When_LocationServiceIsNotReachable() {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenThrow(new ResourceAccessException("Couldn't access the resource"));
+        assertThrows(ConnectionException.class, () ->
+                locationService.validateLocation(TUITION_CLASS_ID, ACCESS_TOKEN));
+        assertThrows(ConnectionException.class, () ->
+                locationService.validateLocation(TUITION_CLASS_ID, ACCESS_TOKEN));
+        verify(restTemplate, times(2)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class));
+        assertEquals(2, getLocationRequestCount(RemoteCallOutcome.CONNECTION_ERROR));
+    }
+
+    @Test
+    void Should_RecordTimeoutOutcome_When_LocationServiceDoesNotRespondInTime() {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenThrow(new ResourceAccessException("Read timed out",
+                new SocketTimeoutException("Read timed out")));
+        assertThrows(ConnectionException.class, () ->
+                locationService.validateLocation(TUITION_CLASS_ID, ACCESS_TOKEN));
+        assertEquals(1, getLocationRequestCount(RemoteCallOutcome.TIMEOUT));
+        assertEquals(0, getLocationRequestCount(RemoteCallOutcome.CONNECTION_ERROR));
+    }
+
+    @Test
+    void Should_OpenCircuitBreaker_When_LocationServiceKeepsFailing() {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenThrow(new ResourceAccessException("Couldn't access the resource"));
+        for (int i = 0; i < MINIMUM_NUMBER_OF_CALLS; i++) {
+            assertThrows(ConnectionException.class, () ->
+                    locationService.validateLocation(TUITION_CLASS_ID, ACCESS_TOKEN));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(ConnectionException.class, () -> locationService.validateLocation(TUITION_CLASS_ID, ACCESS_TOKEN));
+        verify(restTemplate, times(MINIMUM_NUMBER_OF_CALLS)).exchange(anyString(), any(HttpMethod.class),
+                any(HttpEntity.class), eq(LocationResponseWrapper.class));
+        assertEquals(1, getLocationRejectionCount("circuit_open"));
+    }
+
+    @Test
+    void Should_KeepCircuitBreakerClosed_When_LocationsAreInvalid() {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+        for (int i = 0; i < MINIMUM_NUMBER_OF_CALLS; i++) {
+            String tuitionClassId = TUITION_CLASS_ID + i;
+            assertThrows(InvalidLocationException.class, () ->
+                    locationService.validateLocation(tuitionClassId, ACCESS_TOKEN));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void Should_RejectLocationLookup_When_BulkheadIsFull() {
+        for (int i = 0; i < MAX_CONCURRENT_CALLS; i++) {
+            assertTrue(bulkhead.tryAcquirePermission());
+        }
+        assertThrows(ConnectionException.class, () -> locationService.validateLocation(TUITION_CLASS_ID, ACCESS_TOKEN));
+        verifyNoInteractions(restTemplate);
+        assertEquals(1, getLocationRejectionCount("bulkhead_full"));
+    }
+
+    @Test
+    void Should_CallLocationServiceOnce_When_SameLocationIsValidatedConcurrently() throws Exception {
+        var callersReady = new CountDownLatch(CONCURRENT_CALLERS);
+        var locationResponseWrapper = new LocationResponseWrapper("Location retrieved successfully",
+                HttpStatus.OK.value(), null);
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenAnswer(invocation -> {
+            assertTrue(callersReady.await(LOOKUP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            Thread.sleep(100);
+            return ResponseEntity.of(Optional.of(locationResponseWrapper));
+        });
+        var executor = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    callersReady.countDown();
+                    locationService.validateLocation(TUITION_CLASS_ID, ACCESS_TOKEN);
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(LOOKUP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class));
+        assertEquals(1, getLocationRequestCount(RemoteCallOutcome.OK));
+    }
+
+    @Test
+    void Should_CheckBatchWithOneRequest_When_BulkUrlIsConfigured() throws Exception {
+        var batchingLocationService = getBatchingLocationService(GET_TUITION_CLASSES_BY_IDS_URL);
+        when(restTemplate.exchange(eq(TUITION_CLASS_BASE_URL + GET_TUITION_CLASSES_BY_IDS_URL), eq(HttpMethod.POST),
+                any(HttpEntity.class), eq(LocationIdsResponseWrapper.class)))
+                .thenReturn(ResponseEntity.ok(new LocationIdsResponseWrapper("Locations retrieved successfully",
+                        HttpStatus.OK.value(), List.of(TUITION_CLASS_ID + 0, TUITION_CLASS_ID + 1))));
+        List<Throwable> failures = validateConcurrently(batchingLocationService, 3);
+        assertNull(failures.get(0));
+        assertNull(failures.get(1));
+        assertTrue(failures.get(2) instanceof InvalidLocationException);
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class),
+                eq(LocationIdsResponseWrapper.class));
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class));
+        batchingLocationService.shutdown();
+    }
+
+    @Test
+    void Should_CheckEveryLocationOfBatch_When_BulkUrlIsNotConfigured() throws Exception {
+        var batchingLocationService = getBatchingLocationService("");
+        var locationResponseWrapper = new LocationResponseWrapper("Location retrieved successfully",
+                HttpStatus.OK.value(), null);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenReturn(ResponseEntity.of(Optional.of(locationResponseWrapper)));
+        List<Throwable> failures = validateConcurrently(batchingLocationService, 3);
+        failures.forEach(Assertions::assertNull);
+        verify(restTemplate, times(3)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class));
+        batchingLocationService.shutdown();
+    }
+
+    @Test
+    void Should_RejectLookup_When_BatchPoolQueueIsFull() throws Exception {
+        var batchingLocationService = new LocationService(restTemplate, locationValidationCache, simpleMeterRegistry,
+                circuitBreaker, bulkhead, LOOKUP_TIMEOUT_MILLIS, BATCH_WINDOW_MILLIS, CONCURRENT_CALLERS, 1, 1,
+                TUITION_CLASS_BASE_URL, GET_TUITION_CLASS_BY_ID_URL, "");
+        var locationResponseWrapper = new LocationResponseWrapper("Location retrieved successfully",
+                HttpStatus.OK.value(), null);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenAnswer(invocation -> {
+            Thread.sleep(BATCH_WINDOW_MILLIS);
+            return ResponseEntity.of(Optional.of(locationResponseWrapper));
+        });
+        List<Throwable> failures = validateConcurrently(batchingLocationService, 3);
+        assertEquals(1, failures.stream().filter(ConnectionException.class::isInstance).count());
+        assertEquals(2, failures.stream().filter(Objects::isNull).count());
+        assertEquals(1, getLocationRejectionCount("batch_queue_full"));
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class));
+        batchingLocationService.shutdown();
+    }
+
+    private LocationService getBatchingLocationService(String getLocations) {
+        return new LocationService(restTemplate, locationValidationCache, simpleMeterRegistry, circuitBreaker,
+                bulkhead, LOOKUP_TIMEOUT_MILLIS, BATCH_WINDOW_MILLIS, CONCURRENT_CALLERS, MAX_CONCURRENT_CALLS,
+                CONCURRENT_CALLERS, TUITION_CLASS_BASE_URL, GET_TUITION_CLASS_BY_ID_URL, getLocations);
+    }
+
+    /**
+     * This method validates distinct locations concurrently and gives the failure of each location or null
+     */
+    private List<Throwable> validateConcurrently(LocationService service, int locations) throws Exception {
+        var executor = Executors.newFixedThreadPool(locations);
+        try {
+            List<Future<Throwable>> results = new ArrayList<>();
+            for (int i = 0; i < locations; i++) {
+                String tuitionClassId = TUITION_CLASS_ID + i;
+                results.add(executor.submit(() -> {
+                    try {
+                        service.validateLocation(tuitionClassId, ACCESS_TOKEN);
+                        return null;
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                }));
+            }
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<Throwable> result : results) {
+                failures.add(result.get(LOOKUP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double getLocationRejectionCount(String reason) {
+        var counter = simpleMeterRegistry.find(LocationService.LOCATION_REJECTION_METRIC).tag("reason", reason)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long getLocationRequestCount(RemoteCallOutcome outcome) {
+        var timer = simpleMeterRegistry.find(LocationService.LOCATION_REQUEST_METRIC)
+                .tag("outcome", outcome.name()).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,167 @@
+package com.cms.student.service;
+
+import com.cms.student.domain.cache.CachedStudent;
+import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.entity.StudentArchive;
+import com.cms.student.domain.request.StudentRequestDto;
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.exception.InvalidStudentException;
+import com.cms.student.exception.StudentAlreadyExistsException;
+import com.cms.student.exception.StudentException;
+import com.cms.student.repository.StudentArchiveRepository;
+import com.cms.student.repository.StudentRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+class StudentArchiveServiceTest {
+    private static final String STUDENT_ID = "sid-1254-7854-6485";
+    private static final String FIRST_NAME = "Danushan";
+    private static final String LAST_NAME = "Kanagasingam";
+    private static final long RETENTION_DAYS = 30;
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_CHUNKS_PER_RUN = 3;
+    private static final long ARCHIVED_VERSION = 4;
+
+    private StudentArchiveService studentArchiveService;
+    private AsyncCache<String, CachedStudent> studentCache;
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private StudentArchiveRepository studentArchiveRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        openMocks(this);
+        studentCache = Caffeine.newBuilder().buildAsync();
+        studentArchiveService = new StudentArchiveService(studentRepository, studentArchiveRepository,
+                new TransactionTemplate(transactionManager), studentCache, RETENTION_DAYS, CHUNK_SIZE,
+                MAX_CHUNKS_PER_RUN, 0);
+    }
+
+    @Test
+    void Should_ArchiveChunksInOwnTransactions_When_DeletedStudentsAreOlderThanRetention() {
+        when(studentRepository.lockDeletedStudentIds(any(Timestamp.class), eq(CHUNK_SIZE)))
+                .thenReturn(List.of("sid-1", "sid-2"), List.of("sid-3"));
+        long before = System.currentTimeMillis();
+        assertEquals(3, studentArchiveService.archiveDeletedStudents());
+        verify(studentRepository, times(2)).lockDeletedStudentIds(argThat(deletedBefore ->
+                deletedBefore.getTime() <= before - RETENTION_DAYS * 24 * 60 * 60 * 1000), eq(CHUNK_SIZE));
+        verify(studentArchiveRepository).copyDeletedStudents(List.of("sid-1", "sid-2"));
+        verify(studentRepository).deleteArchivedStudents(List.of("sid-1", "sid-2"));
+        verify(studentArchiveRepository).copyDeletedStudents(List.of("sid-3"));
+        verify(studentRepository).deleteArchivedStudents(List.of("sid-3"));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void Should_StopArchiving_When_MaximumChunksPerRunIsReached() {
+        when(studentRepository.lockDeletedStudentIds(any(Timestamp.class), anyInt()))
+                .thenReturn(List.of("sid-1", "sid-2"));
+        assertEquals(MAX_CHUNKS_PER_RUN * CHUNK_SIZE, studentArchiveService.archiveDeletedStudents());
+        verify(studentRepository, times(MAX_CHUNKS_PER_RUN)).deleteArchivedStudents(anyList());
+    }
+
+    @Test
+    void Should_NotCopyOrDelete_When_NoStudentIsArchivable() {
+        when(studentRepository.lockDeletedStudentIds(any(Timestamp.class), anyInt())).thenReturn(List.of());
+        assertEquals(0, studentArchiveService.archiveDeletedStudents());
+        verify(studentArchiveRepository, never()).copyDeletedStudents(anyList());
+        verify(studentRepository, never()).deleteArchivedStudents(anyList());
+    }
+
+    @Test
+    void Should_ThrowStudentException_When_ArchiveChunkIsFailed() {
+        when(studentRepository.lockDeletedStudentIds(any(Timestamp.class), anyInt())).thenReturn(List.of("sid-1"));
+        when(studentArchiveRepository.copyDeletedStudents(anyList())).thenThrow(new DataAccessException("ERROR") {
+        });
+        StudentException exception = assertThrows(StudentException.class, () ->
+                studentArchiveService.archiveDeletedStudents());
+        assertEquals("Archiving deleted students is failed", exception.getMessage());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void Should_RestoreInPlace_When_DeletedStudentIsNotArchived() {
+        var student = getSampleStudent();
+        student.setDeleted(true);
+        studentCache.synchronous().put(STUDENT_ID, new CachedStudent(new StudentResponseDto(student)));
+        when(studentRepository.findDeletedById(STUDENT_ID)).thenReturn(Optional.of(student));
+        Student restoredStudent = studentArchiveService.restoreStudent(STUDENT_ID);
+        assertFalse(restoredStudent.isDeleted());
+        verify(studentRepository).save(student);
+        verify(studentArchiveRepository, never()).findById(any());
+        assertNull(studentCache.synchronous().getIfPresent(STUDENT_ID));
+    }
+
+    @Test
+    void Should_MoveStudentBack_When_StudentIsArchived() {
+        var studentArchive = getSampleStudentArchive();
+        studentArchive.setVersion(ARCHIVED_VERSION);
+        when(studentRepository.findDeletedById(STUDENT_ID)).thenReturn(Optional.empty());
+        when(studentArchiveRepository.findById(STUDENT_ID)).thenReturn(Optional.of(studentArchive));
+        Student restoredStudent = studentArchiveService.restoreStudent(STUDENT_ID);
+        assertEquals(STUDENT_ID, restoredStudent.getStudentId());
+        assertEquals(FIRST_NAME, restoredStudent.getFirstName());
+        assertFalse(restoredStudent.isDeleted());
+        assertTrue(restoredStudent.isNew());
+        assertEquals(ARCHIVED_VERSION + 1, restoredStudent.getVersion());
+        verify(studentRepository).save(restoredStudent);
+        verify(studentArchiveRepository).delete(studentArchive);
+    }
+
+    @Test
+    void Should_ThrowInvalidStudentException_When_StudentIsNotDeleted() {
+        when(studentRepository.findDeletedById(STUDENT_ID)).thenReturn(Optional.empty());
+        when(studentArchiveRepository.findById(STUDENT_ID)).thenReturn(Optional.empty());
+        assertThrows(InvalidStudentException.class, () -> studentArchiveService.restoreStudent(STUDENT_ID));
+        verify(studentRepository, never()).save(any());
+    }
+
+    @Test
+    void Should_ThrowStudentAlreadyExistsException_When_NameIsUsedByAnotherStudent() {
+        when(studentRepository.findDeletedById(STUDENT_ID)).thenReturn(Optional.empty());
+        when(studentArchiveRepository.findById(STUDENT_ID)).thenReturn(Optional.of(getSampleStudentArchive()));
+        when(studentRepository.existsByFirstNameAndLastNameAndStudentIdNot(FIRST_NAME, LAST_NAME, STUDENT_ID))
+                .thenReturn(true);
+        assertThrows(StudentAlreadyExistsException.class, () -> studentArchiveService.restoreStudent(STUDENT_ID));
+        verify(studentArchiveRepository, never()).delete(any());
+    }
+
+    private Student getSampleStudent() {
+        var studentRequestDto = new StudentRequestDto();
+        studentRequestDto.setFirstName(FIRST_NAME);
+        studentRequestDto.setLastName(LAST_NAME);
+        studentRequestDto.setGender("Male");
+        var student = new Student(studentRequestDto);
+        student.setStudentId(STUDENT_ID);
+        return student;
+    }
+
+    private StudentArchive getSampleStudentArchive() {
+        var studentArchive = new StudentArchive();
+        studentArchive.setStudentId(STUDENT_ID);
+        studentArchive.setFirstName(FIRST_NAME);
+        studentArchive.setLastName(LAST_NAME);
+        studentArchive.setUpdatedAt(new Timestamp(System.currentTimeMillis()));
+        return studentArchive;
+    }
+}
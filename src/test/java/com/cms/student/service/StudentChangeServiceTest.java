@@ -0,0 +1,107 @@
+package com.cms.student.service;
+
+import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.request.StudentRequestDto;
+import com.cms.student.domain.response.StudentChangesResponseDto;
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.enums.StudentChangeType;
+import com.cms.student.exception.InvalidCursorException;
+import com.cms.student.exception.StudentException;
+import com.cms.student.repository.StudentRepository;
+import com.cms.student.utills.StudentCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+class StudentChangeServiceTest {
+    private static final String STUDENT_ID = "sid-1254";
+    private static final String DELETED_STUDENT_ID = "sid-1255";
+    private static final long SETTLE_MILLIS = 5000;
+    private static final int DEFAULT_SIZE = 2;
+    private static final int MAX_SIZE = 3;
+    private static final Timestamp UPDATED_AT = Timestamp.valueOf("2023-03-01 10:15:30.125");
+
+    private StudentChangeService studentChangeService;
+    @Mock
+    private StudentRepository studentRepository;
+
+    @BeforeEach
+    void setUp() {
+        openMocks(this);
+        studentChangeService = new StudentChangeService(studentRepository, SETTLE_MILLIS, DEFAULT_SIZE, MAX_SIZE);
+    }
+
+    @Test
+    void Should_ReturnSettledChangesWithTombstones_When_CursorIsNotGiven() {
+        var students = List.of(getSampleStudent(STUDENT_ID, false), getSampleStudent(DELETED_STUDENT_ID, true));
+        when(studentRepository.findChanges(any(), eq(PageRequest.of(0, DEFAULT_SIZE))))
+                .thenReturn(new SliceImpl<>(students, PageRequest.of(0, DEFAULT_SIZE), true));
+        long startedAt = System.currentTimeMillis();
+        StudentChangesResponseDto responseDto = studentChangeService.getStudentChanges(null, null);
+
+        ArgumentCaptor<Timestamp> settledBefore = ArgumentCaptor.forClass(Timestamp.class);
+        verify(studentRepository).findChanges(settledBefore.capture(), any());
+        assertTrue(settledBefore.getValue().getTime() <= System.currentTimeMillis() - SETTLE_MILLIS);
+        assertTrue(settledBefore.getValue().getTime() >= startedAt - SETTLE_MILLIS);
+        assertEquals(StudentChangeType.UPSERTED, responseDto.getChanges().get(0).getChangeType());
+        assertEquals(STUDENT_ID, responseDto.getChanges().get(0).getStudent().getStudentId());
+        assertEquals(StudentChangeType.DELETED, responseDto.getChanges().get(1).getChangeType());
+        assertEquals(DELETED_STUDENT_ID, responseDto.getChanges().get(1).getStudentId());
+        assertNull(responseDto.getChanges().get(1).getStudent());
+        assertEquals(new StudentCursor(UPDATED_AT.getTime(), DELETED_STUDENT_ID).encode(),
+                responseDto.getNextCursor());
+        assertTrue(responseDto.isHasNext());
+    }
+
+    @Test
+    void Should_ReturnSameCursor_When_ThereIsNoChangeAfterCursor() {
+        String cursor = new StudentCursor(UPDATED_AT.getTime(), STUDENT_ID).encode();
+        when(studentRepository.findChangesAfter(eq(UPDATED_AT), eq(STUDENT_ID), any(),
+                eq(PageRequest.of(0, MAX_SIZE))))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, MAX_SIZE), false));
+        StudentChangesResponseDto responseDto = studentChangeService.getStudentChanges(cursor, MAX_SIZE + 10);
+        assertTrue(responseDto.getChanges().isEmpty());
+        assertEquals(cursor, responseDto.getNextCursor());
+        assertFalse(responseDto.isHasNext());
+    }
+
+    @Test
+    void Should_ThrowInvalidCursorException_When_CursorIsInvalid() {
+        assertThrows(InvalidCursorException.class, () -> studentChangeService.getStudentChanges("@@", null));
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    void Should_ThrowStudentException_When_RetrievingChangesFromDatabaseIsFailed() {
+        when(studentRepository.findChanges(any(), any())).thenThrow(new DataAccessException("ERROR") {
+        });
+        StudentException exception = assertThrows(StudentException.class, () ->
+                studentChangeService.getStudentChanges(null, null));
+        assertEquals("Retrieving student changes from database is failed", exception.getMessage());
+    }
+
+    private StudentResponseDto getSampleStudent(String studentId, boolean isDeleted) {
+        var studentRequestDto = new StudentRequestDto();
+        studentRequestDto.setFirstName("Danushan");
+        studentRequestDto.setLastName("Kanagasingam");
+        studentRequestDto.setGender("Male");
+        var student = new Student(studentRequestDto);
+        student.setStudentId(studentId);
+        student.setDeleted(isDeleted);
+        student.setUpdatedAt(UPDATED_AT);
+        return new StudentResponseDto(student);
+    }
+}
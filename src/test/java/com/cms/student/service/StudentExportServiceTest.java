@@ -0,0 +1,109 @@
+package com.cms.student.service;
+
+import com.cms.student.domain.entity.Student;
+import com.cms.student.enums.ExportFormat;
+import com.cms.student.enums.Gender;
+import com.cms.student.enums.StudentStatus;
+import com.cms.student.exception.StudentException;
+import com.cms.student.repository.StudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+class StudentExportServiceTest {
+    private static final String STUDENT_ID = "sid-1254-7854-6485";
+    private static final String FIRST_NAME = "Danushan";
+    private static final String LAST_NAME = "Kanagasingam";
+    private static final String ADDRESS = "A9 road, Vavuniya";
+    private static final String TUITION_CLASS_ID = "tid-1254-9654-7854-8955";
+    private static final int PHONE_NUMBER = 771109101;
+    private static final int AGE = 27;
+    private static final int GRADE = 12;
+    private static final Date UPDATED_AT = Date.valueOf("2023-03-01");
+    private static final Timestamp UPDATED_AT_TIMESTAMP = Timestamp.valueOf("2023-03-01 10:15:30.125");
+
+    private StudentExportService studentExportService;
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        openMocks(this);
+        studentExportService = new StudentExportService(studentRepository, entityManager, new ObjectMapper());
+    }
+
+    @Test
+    void Should_WriteCsvRowsAndDetachStudents_When_ExportInCsvFormat() {
+        Student student = getSampleStudent();
+        when(studentRepository.streamAllStudents()).thenReturn(Stream.of(student));
+        var outputStream = new ByteArrayOutputStream();
+        studentExportService.exportStudents(ExportFormat.CSV, outputStream);
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("studentId,firstName"));
+        assertEquals(STUDENT_ID + "," + FIRST_NAME + "," + LAST_NAME + ",\"" + ADDRESS + "\",Male," + AGE + ","
+                + GRADE + "," + PHONE_NUMBER + ",Coming," + TUITION_CLASS_ID + "," + UPDATED_AT + ","
+                + UPDATED_AT_TIMESTAMP, lines[1]);
+        verify(entityManager, times(1)).detach(student);
+    }
+
+    @Test
+    void Should_WriteOneJsonObjectPerLine_When_ExportInNdjsonFormat() {
+        when(studentRepository.streamAllStudents()).thenReturn(Stream.of(getSampleStudent(), getSampleStudent()));
+        var outputStream = new ByteArrayOutputStream();
+        studentExportService.exportStudents(ExportFormat.NDJSON, outputStream);
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"studentId\":\"" + STUDENT_ID + "\""));
+        verify(entityManager, times(2)).detach(any(Student.class));
+    }
+
+    @Test
+    void Should_ThrowStudentException_When_StreamingStudentsFromDatabaseIsFailed() {
+        when(studentRepository.streamAllStudents()).thenThrow(new DataAccessException("ERROR") {
+        });
+        var outputStream = new ByteArrayOutputStream();
+        StudentException exception = assertThrows(StudentException.class, () ->
+                studentExportService.exportStudents(ExportFormat.CSV, outputStream));
+        assertEquals("Retrieving students for export from database is failed", exception.getMessage());
+    }
+
+    /**
+     * This method creates sample student
+     *
+     * @return Student
+     */
+    private Student getSampleStudent() {
+        Student student = new Student();
+        student.setStudentId(STUDENT_ID);
+        student.setFirstName(FIRST_NAME);
+        student.setLastName(LAST_NAME);
+        student.setAddress(ADDRESS);
+        student.setGender(Gender.MALE);
+        student.setAge(AGE);
+        student.setGrade(GRADE);
+        student.setPhoneNumber(PHONE_NUMBER);
+        student.setStudentStatus(StudentStatus.COMING);
+        student.setTuitionClassId(TUITION_CLASS_ID);
+        student.setJoinedDate(UPDATED_AT);
+        student.setUpdatedAt(UPDATED_AT_TIMESTAMP);
+        return student;
+    }
+}
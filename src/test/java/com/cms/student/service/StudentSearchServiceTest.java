@@ -0,0 +1,125 @@
+package com.cms.student.service;
+
+import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.request.StudentRequestDto;
+import com.cms.student.domain.response.StudentResponseDto;
+import com.cms.student.exception.InvalidSearchQueryException;
+import com.cms.student.exception.StudentException;
+import com.cms.student.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+class StudentSearchServiceTest {
+    private static final String FIRST_NAME = "Danushan";
+    private static final String LAST_NAME = "Kanagasingam";
+    private static final int MIN_TOKEN_LENGTH = 3;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 50;
+
+    private StudentSearchService studentSearchService;
+    @Mock
+    private StudentRepository studentRepository;
+
+    @BeforeEach
+    void setUp() {
+        openMocks(this);
+        studentSearchService = new StudentSearchService(studentRepository, MIN_TOKEN_LENGTH, MIN_PREFIX_LENGTH,
+                DEFAULT_SIZE, MAX_SIZE);
+    }
+
+    @Test
+    void Should_ReturnStudentsInRankOrder_When_QueryHasLongTerms() {
+        var first = getSampleStudentResponse("sid-1", FIRST_NAME, LAST_NAME);
+        var second = getSampleStudentResponse("sid-2", FIRST_NAME, LAST_NAME);
+        when(studentRepository.searchIdsByName("+danu* +kan*", DEFAULT_SIZE)).thenReturn(List.of("sid-2", "sid-1"));
+        when(studentRepository.findResponsesByIds(List.of("sid-2", "sid-1"))).thenReturn(List.of(first, second));
+        assertEquals(List.of(second, first), studentSearchService.searchStudents("Danu Kan", null));
+        verify(studentRepository, never()).findByNamePrefixes(anyString(), anyList(), anyInt());
+    }
+
+    @Test
+    void Should_NotReadStudents_When_FullTextIndexMatchesNothing() {
+        when(studentRepository.searchIdsByName("+danu*", DEFAULT_SIZE)).thenReturn(List.of());
+        assertEquals(List.of(), studentSearchService.searchStudents("Danu", null));
+        verify(studentRepository, never()).findResponsesByIds(anyCollection());
+    }
+
+    @Test
+    void Should_MergeFirstAndLastNameMatches_When_QueryHasOnlyShortTerms() {
+        var firstNameMatch = getSampleStudentResponse("sid-1", "Dan", "Kan");
+        var bothNamesMatch = getSampleStudentResponse("sid-2", "Dan", "Dan");
+        var lastNameMatch = getSampleStudentResponse("sid-3", "Kan", "Dan");
+        when(studentRepository.findByNamePrefixes("firstName", List.of("da", "ka"), MAX_SIZE))
+                .thenReturn(List.of(firstNameMatch, bothNamesMatch));
+        when(studentRepository.findByNamePrefixes("lastName", List.of("da", "ka"), MAX_SIZE))
+                .thenReturn(List.of(bothNamesMatch, lastNameMatch));
+        assertEquals(List.of(firstNameMatch, bothNamesMatch, lastNameMatch),
+                studentSearchService.searchStudents("Da Ka", MAX_SIZE + 10));
+        verify(studentRepository, never()).searchIdsByName(anyString(), anyInt());
+    }
+
+    @Test
+    void Should_MatchShortTermAsPrefix_When_QueryMixesShortAndLongTerms() {
+        var alPerera = getSampleStudentResponse("sid-1", "Alan", "Perera");
+        when(studentRepository.findByNamePrefixes("firstName", List.of("perera", "al"), DEFAULT_SIZE))
+                .thenReturn(List.of());
+        when(studentRepository.findByNamePrefixes("lastName", List.of("perera", "al"), DEFAULT_SIZE))
+                .thenReturn(List.of(alPerera));
+        assertEquals(List.of(alPerera), studentSearchService.searchStudents("Al Perera", null));
+        verify(studentRepository, never()).searchIdsByName(anyString(), anyInt());
+    }
+
+    @Test
+    void Should_CapMergedMatches_When_BothNameColumnsReturnLimit() {
+        var firstNameMatch = getSampleStudentResponse("sid-1", "Dan", "Kan");
+        var lastNameMatch = getSampleStudentResponse("sid-2", "Kan", "Dan");
+        when(studentRepository.findByNamePrefixes("firstName", List.of("da"), 1)).thenReturn(List.of(firstNameMatch));
+        when(studentRepository.findByNamePrefixes("lastName", List.of("da"), 1)).thenReturn(List.of(lastNameMatch));
+        assertEquals(List.of(firstNameMatch), studentSearchService.searchStudents("da", 1));
+    }
+
+    @Test
+    void Should_ThrowInvalidSearchQueryException_When_EveryTermIsShorterThanMinPrefixLength() {
+        assertThrows(InvalidSearchQueryException.class, () -> studentSearchService.searchStudents("d k", null));
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    void Should_ThrowInvalidSearchQueryException_When_QueryHasNoTerm() {
+        assertThrows(InvalidSearchQueryException.class, () -> studentSearchService.searchStudents("  -* ", null));
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    void Should_ThrowStudentException_When_SearchInDatabaseIsFailed() {
+        when(studentRepository.searchIdsByName(anyString(), anyInt())).thenThrow(new DataAccessException("ERROR") {
+        });
+        StudentException exception = assertThrows(StudentException.class, () ->
+                studentSearchService.searchStudents(FIRST_NAME, null));
+        assertEquals("Searching students in database is failed", exception.getMessage());
+    }
+
+    private StudentResponseDto getSampleStudentResponse(String studentId, String firstName, String lastName) {
+        var studentRequestDto = new StudentRequestDto();
+        studentRequestDto.setFirstName(firstName);
+        studentRequestDto.setLastName(lastName);
+        studentRequestDto.setGender("Male");
+        var student = new Student(studentRequestDto);
+        student.setStudentId(studentId);
+        return new StudentResponseDto(student);
+    }
+}
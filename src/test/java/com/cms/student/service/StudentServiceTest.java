@@ -1,19 +1,39 @@
 package com.cms.student.service;
 
+import com.cms.student.domain.cache.CachedStudent;
 import com.cms.student.domain.entity.Student;
+import com.cms.student.domain.filter.StudentFilter;
+import com.cms.student.domain.page.CursorPage;
+import com.cms.student.domain.projection.StudentNameView;
+import com.cms.student.domain.request.DeleteStudentsRequestDto;
+import com.cms.student.domain.request.PatchStudentRequestDto;
 import com.cms.student.domain.request.StudentRequestDto;
 import com.cms.student.domain.request.UpdateStudentRequestDto;
 import com.cms.student.domain.response.LocationResponseDto;
+import com.cms.student.domain.response.PatchStudentResponseDto;
+import com.cms.student.domain.response.StudentResponseDto;
 import com.cms.student.enums.Gender;
+import com.cms.student.enums.StudentStatus;
 import com.cms.student.exception.*;
 import com.cms.student.repository.StudentRepository;
+import com.cms.student.utills.ConcurrentValidator;
+import com.cms.student.utills.StudentCursor;
+import com.cms.student.utills.StudentETag;
 import com.cms.student.wrapper.LocationResponseWrapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.domain.*;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -23,13 +43,24 @@ import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.sql.Date;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static com.cms.student.configuration.ResilienceConfiguration.LOCATION_SERVICE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.openMocks;
@@ -47,18 +78,23 @@ class StudentServiceTest {
     private static final String ADDRESS = "A9 road, Vavuniya";
     private static final String GENDER = "Male";
     private static final String TUITION_CLASS_ID = "tid-1254-9654-7854-8955";
+    private static final String INVALID_TUITION_CLASS_ID = "tid-0000-0000-0000-0000";
+    private static final String UNREACHABLE_TUITION_CLASS_ID = "tid-9999-9999-9999-9999";
     private static final int PHONE_NUMBER = 771109101;
     private static final int AGE = 27;
     private static final int GRADE = 12;
-    private static final int PAGE = 0;
-    private static final int SIZE = 100;
-    private static final String DEFAULT_SORT = "updated_at";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final long VALIDATION_TIMEOUT_MILLIS = 5000;
+    private static final long STUDENT_VERSION = 3;
 
     private static final String TUITION_CLASS_ADDRESS = "Galle Road, Wellawatte";
     private static final String TUITION_CLASS_DISTRICT = "Colombo";
     private static final String TUITION_CLASS_PROVINCE = "South";
+    private static final int DELETE_CHUNK_SIZE = 1000;
 
     private StudentService studentService;
+    private AsyncCache<String, CachedStudent> studentCache;
     @Mock
     private StudentRepository studentRepository;
     @Mock
@@ -68,8 +104,13 @@ class StudentServiceTest {
     @BeforeEach
     void setUp() {
         openMocks(this);
-        studentService = new StudentService(studentRepository, restTemplate, TUITION_CLASS_BASE_URL,
-                GET_TUITION_CLASS_BY_ID_URL);
+        var locationService = new LocationService(restTemplate, Caffeine.newBuilder().build(),
+                new SimpleMeterRegistry(), CircuitBreaker.ofDefaults(LOCATION_SERVICE), Bulkhead.ofDefaults(LOCATION_SERVICE),
+                VALIDATION_TIMEOUT_MILLIS, 0, 1, 1, 1, TUITION_CLASS_BASE_URL, GET_TUITION_CLASS_BY_ID_URL, "");
+        var concurrentValidator = new ConcurrentValidator(Runnable::run, VALIDATION_TIMEOUT_MILLIS);
+        studentCache = Caffeine.newBuilder().buildAsync();
+        studentService = new StudentService(studentRepository, locationService, concurrentValidator, studentCache,
+                Caffeine.newBuilder().buildAsync(), DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
     }
 
     @AfterEach
@@ -164,16 +205,227 @@ class StudentServiceTest {
         assertEquals("Checking the student record in database is failed", exception.getMessage());
     }
 
+    @Test
+    void Should_ReturnResultPerStudent_When_CreateStudentsInBulk() {
+        StudentRequestDto validStudent = getSampleStudentRequestDto();
+        StudentRequestDto existingStudent = getSampleStudentRequestDto();
+        existingStudent.setFirstName(UPDATED_FIRST_NAME);
+        StudentRequestDto invalidAgeStudent = getSampleStudentRequestDto();
+        invalidAgeStudent.setAge(0);
+        StudentRequestDto invalidLocationStudent = getSampleStudentRequestDto();
+        invalidLocationStudent.setLastName(UPDATED_LAST_NAME);
+        invalidLocationStudent.setTuitionClassId(INVALID_TUITION_CLASS_ID);
+        StudentNameView existingName = mock(StudentNameView.class);
+        when(existingName.getFirstName()).thenReturn(UPDATED_FIRST_NAME.toUpperCase());
+        when(existingName.getLastName()).thenReturn(LAST_NAME);
+        when(studentRepository.findNamesByFirstNameInAndLastNameIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(existingName));
+        when(restTemplate.exchange(contains(TUITION_CLASS_ID), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class)))
+                .thenReturn(ResponseEntity.of(Optional.of(getSampleLocationResponseWrapper())));
+        when(restTemplate.exchange(contains(INVALID_TUITION_CLASS_ID), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        var results = studentService.createStudents(List.of(validStudent, existingStudent, invalidAgeStudent,
+                invalidLocationStudent, getSampleStudentRequestDto()), ACCESS_TOKEN);
+
+        assertEquals(5, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertEquals("The student already exists", results.get(1).getMessage());
+        assertEquals("The given age is invalid", results.get(2).getMessage());
+        assertEquals("The location Id is invalid", results.get(3).getMessage());
+        assertEquals("The student already exists", results.get(4).getMessage());
+        verify(restTemplate, times(2)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class));
+        verify(studentRepository, times(1)).saveAll(argThat(students ->
+                students instanceof List && ((List<?>) students).size() == 1));
+    }
+
+    @Test
+    void Should_FailOnlyItsStudents_When_LocationOfBulkStudentsCanNotBeChecked() {
+        StudentRequestDto unreachableLocationStudent = getSampleStudentRequestDto();
+        unreachableLocationStudent.setLastName(UPDATED_LAST_NAME);
+        unreachableLocationStudent.setTuitionClassId(UNREACHABLE_TUITION_CLASS_ID);
+        when(studentRepository.findNamesByFirstNameInAndLastNameIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of());
+        when(restTemplate.exchange(contains(TUITION_CLASS_ID), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class)))
+                .thenReturn(ResponseEntity.of(Optional.of(getSampleLocationResponseWrapper())));
+        when(restTemplate.exchange(contains(UNREACHABLE_TUITION_CLASS_ID), any(HttpMethod.class),
+                any(HttpEntity.class), eq(LocationResponseWrapper.class)))
+                .thenThrow(new ResourceAccessException("Couldn't access the resource"));
+
+        var results = studentService.createStudents(List.of(unreachableLocationStudent, getSampleStudentRequestDto()),
+                ACCESS_TOKEN);
+
+        assertEquals("Internal server connection error", results.get(0).getMessage());
+        assertTrue(results.get(1).isCreated());
+        verify(studentRepository, times(1)).saveAll(argThat(students ->
+                students instanceof List && ((List<?>) students).size() == 1));
+    }
+
+    @Test
+    void Should_ThrowStudentException_When_SaveStudentsInBulkIsFailed() {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class)))
+                .thenReturn(ResponseEntity.of(Optional.of(getSampleLocationResponseWrapper())));
+        when(studentRepository.saveAll(anyList())).thenThrow(new DataAccessException("ERROR") {
+        });
+        List<StudentRequestDto> studentRequestDtoList = List.of(getSampleStudentRequestDto());
+        StudentException exception = assertThrows(StudentException.class, () ->
+                studentService.createStudents(studentRequestDtoList, ACCESS_TOKEN));
+        assertEquals("Saving students into database is failed", exception.getMessage());
+    }
+
     @Test
     void Should_ReturnStudent_When_GetStudentByIdIsSuccessfully() {
+        StudentResponseDto student = new StudentResponseDto(getSampleStudent());
+        when(studentRepository.findResponseById(STUDENT_ID)).thenReturn(Optional.of(student));
+        assertEquals(student, studentService.getStudentById(STUDENT_ID));
+        verify(studentRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void Should_LoadStudentOnce_When_SameStudentIsReadRepeatedly() {
+        StudentResponseDto student = new StudentResponseDto(getSampleStudent());
+        when(studentRepository.findResponseById(STUDENT_ID)).thenReturn(Optional.of(student));
+        assertEquals(student, studentService.getStudentById(STUDENT_ID));
+        assertEquals(student, studentService.getCachedStudent(STUDENT_ID).getStudent());
+        verify(studentRepository, times(1)).findResponseById(STUDENT_ID);
+    }
+
+    @Test
+    void Should_NotCacheStudent_When_StudentNotExistOnGivenId() {
+        when(studentRepository.findResponseById(STUDENT_ID)).thenReturn(Optional.empty());
+        assertThrows(InvalidStudentException.class, () -> studentService.getStudentById(STUDENT_ID));
+        assertNull(studentCache.synchronous().getIfPresent(STUDENT_ID));
+    }
+
+    @Test
+    void Should_EvictCachedStudent_When_StudentUpdatedSuccessFully() {
         Student student = getSampleStudent();
+        studentCache.synchronous().put(STUDENT_ID, new CachedStudent(new StudentResponseDto(getSampleStudent())));
+        UpdateStudentRequestDto updateStudentRequestDto = getSampleUpdateStudentRequestDto();
+        LocationResponseWrapper locationResponseWrapper = getSampleLocationResponseWrapper();
         when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(student));
-        assertEquals(student, studentService.getStudentById(STUDENT_ID));
+        when(studentRepository.existsByFirstNameAndLastNameAndStudentIdNot(UPDATED_FIRST_NAME, UPDATED_LAST_NAME, STUDENT_ID))
+                .thenReturn(false);
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenReturn(ResponseEntity.of(Optional.of(locationResponseWrapper)));
+        studentService.updateStudent(updateStudentRequestDto, ACCESS_TOKEN);
+        assertNull(studentCache.synchronous().getIfPresent(STUDENT_ID));
+        when(studentRepository.findResponseById(STUDENT_ID)).thenReturn(Optional.of(new StudentResponseDto(student)));
+        assertEquals(UPDATED_FIRST_NAME, studentService.getStudentById(STUDENT_ID).getFirstName());
+    }
+
+    @Test
+    void Should_EvictCachedStudent_When_StudentDeletedSuccessfully() {
+        studentCache.synchronous().put(STUDENT_ID, new CachedStudent(new StudentResponseDto(getSampleStudent())));
+        when(studentRepository.softDeleteById(eq(STUDENT_ID), any(Timestamp.class))).thenReturn(1);
+        studentService.deleteStudent(STUDENT_ID);
+        assertNull(studentCache.synchronous().getIfPresent(STUDENT_ID));
+    }
+
+    @Test
+    void Should_PatchStudentWithSingleStatement_When_OnlyPhoneNumberIsChanged() {
+        studentCache.synchronous().put(STUDENT_ID, new CachedStudent(new StudentResponseDto(getSampleStudent())));
+        PatchStudentRequestDto patchStudentRequestDto = getSamplePatchStudentRequestDto();
+        patchStudentRequestDto.setPhoneNumber(PHONE_NUMBER);
+        when(studentRepository.patchStudent(eq(patchStudentRequestDto), any(Timestamp.class))).thenReturn(1);
+        PatchStudentResponseDto patchStudentResponseDto = studentService.patchStudent(patchStudentRequestDto,
+                ACCESS_TOKEN);
+        assertEquals(STUDENT_VERSION + 1, patchStudentResponseDto.getVersion());
+        assertEquals(STUDENT_ID, patchStudentResponseDto.getStudentId());
+        assertNull(studentCache.synchronous().getIfPresent(STUDENT_ID));
+        verify(studentRepository).patchStudent(eq(patchStudentRequestDto), any(Timestamp.class));
+        verifyNoMoreInteractions(studentRepository);
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void Should_ThrowStudentVersionConflictException_When_StudentIsChangedByOtherRequest() {
+        studentCache.synchronous().put(STUDENT_ID, new CachedStudent(new StudentResponseDto(getSampleStudent())));
+        PatchStudentRequestDto patchStudentRequestDto = getSamplePatchStudentRequestDto();
+        patchStudentRequestDto.setAddress(ADDRESS);
+        when(studentRepository.patchStudent(eq(patchStudentRequestDto), any(Timestamp.class))).thenReturn(0);
+        when(studentRepository.findVersionById(STUDENT_ID)).thenReturn(Optional.of(STUDENT_VERSION + 1));
+        StudentVersionConflictException exception = assertThrows(StudentVersionConflictException.class, () ->
+                studentService.patchStudent(patchStudentRequestDto, ACCESS_TOKEN));
+        assertEquals("The student " + STUDENT_ID + " is not at version " + STUDENT_VERSION, exception.getMessage());
+        assertTrue(studentCache.synchronous().asMap().containsKey(STUDENT_ID));
+    }
+
+    @Test
+    void Should_ThrowInvalidStudentException_When_PatchedStudentNotExists() {
+        PatchStudentRequestDto patchStudentRequestDto = getSamplePatchStudentRequestDto();
+        patchStudentRequestDto.setAddress(ADDRESS);
+        when(studentRepository.patchStudent(eq(patchStudentRequestDto), any(Timestamp.class))).thenReturn(0);
+        when(studentRepository.findVersionById(STUDENT_ID)).thenReturn(Optional.empty());
+        assertThrows(InvalidStudentException.class, () ->
+                studentService.patchStudent(patchStudentRequestDto, ACCESS_TOKEN));
+    }
+
+    @Test
+    void Should_ValidateWithStoredLastName_When_OnlyFirstNameIsPatched() {
+        PatchStudentRequestDto patchStudentRequestDto = getSamplePatchStudentRequestDto();
+        patchStudentRequestDto.setFirstName(UPDATED_FIRST_NAME);
+        StudentNameView storedName = mock(StudentNameView.class);
+        when(storedName.getFirstName()).thenReturn(FIRST_NAME);
+        when(storedName.getLastName()).thenReturn(LAST_NAME);
+        when(studentRepository.findNameById(STUDENT_ID)).thenReturn(Optional.of(storedName));
+        when(studentRepository.existsByFirstNameAndLastNameAndStudentIdNot(UPDATED_FIRST_NAME, LAST_NAME, STUDENT_ID))
+                .thenReturn(true);
+        StudentAlreadyExistsException exception = assertThrows(StudentAlreadyExistsException.class, () ->
+                studentService.patchStudent(patchStudentRequestDto, ACCESS_TOKEN));
+        assertEquals("Student already exists", exception.getMessage());
+        verify(studentRepository, never()).patchStudent(any(PatchStudentRequestDto.class), any(Timestamp.class));
+    }
+
+    @Test
+    void Should_ThrowInvalidLocationException_When_PatchedTuitionClassNotExists() {
+        PatchStudentRequestDto patchStudentRequestDto = getSamplePatchStudentRequestDto();
+        patchStudentRequestDto.setTuitionClassId(TUITION_CLASS_ID);
+        LocationResponseWrapper locationResponseWrapper = getSampleLocationResponseWrapper();
+        locationResponseWrapper.setStatusCode(4030);
+        locationResponseWrapper.setData(null);
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenReturn(ResponseEntity.of(Optional.of(locationResponseWrapper)));
+        assertThrows(InvalidLocationException.class, () ->
+                studentService.patchStudent(patchStudentRequestDto, ACCESS_TOKEN));
+        verify(studentRepository, never()).patchStudent(any(PatchStudentRequestDto.class), any(Timestamp.class));
+    }
+
+    @Test
+    void Should_ReturnLastUpdateTimeAsListVersion_When_StudentsExist() {
+        Timestamp lastUpdatedAt = new Timestamp(System.currentTimeMillis());
+        when(studentRepository.findLastUpdatedAt()).thenReturn(Optional.of(lastUpdatedAt));
+        assertEquals(lastUpdatedAt.getTime(), studentService.getStudentListVersion());
+    }
+
+    @Test
+    void Should_ReturnZeroListVersion_When_NoStudentExists() {
+        when(studentRepository.findLastUpdatedAt()).thenReturn(Optional.empty());
+        assertEquals(0L, studentService.getStudentListVersion());
+    }
+
+    @Test
+    void Should_ReturnVersionWithoutDatabase_When_StudentIsCached() {
+        Student student = getSampleStudent();
+        student.setUpdatedAt(new Timestamp(System.currentTimeMillis()));
+        studentCache.synchronous().put(STUDENT_ID, new CachedStudent(new StudentResponseDto(student)));
+        assertEquals(student.getUpdatedAt(), studentService.getStudentVersion(STUDENT_ID));
+        verify(studentRepository, never()).findUpdatedAtById(anyString());
+    }
+
+    @Test
+    void Should_ThrowInvalidStudentException_When_VersionOfNotExistingStudentIsRequested() {
+        when(studentRepository.findUpdatedAtById(STUDENT_ID)).thenReturn(Optional.empty());
+        assertThrows(InvalidStudentException.class, () -> studentService.getStudentVersion(STUDENT_ID));
     }
 
     @Test
     void Should_ThrowInvalidStudentException_When_StudentNotExistOnGivenId() {
-        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.empty());
+        when(studentRepository.findResponseById(STUDENT_ID)).thenReturn(Optional.empty());
         InvalidStudentException exception = assertThrows(InvalidStudentException.class, () ->
                 studentService.getStudentById(STUDENT_ID));
         assertEquals("The given student id is invalid" + STUDENT_ID, exception.getMessage());
@@ -181,7 +433,7 @@ class StudentServiceTest {
 
     @Test
     void Should_ThrowStudentException_When_StudentNotExistOnGivenId() {
-        when(studentRepository.findById(STUDENT_ID)).thenThrow(new DataAccessException("ERROR") {
+        when(studentRepository.findResponseById(STUDENT_ID)).thenThrow(new DataAccessException("ERROR") {
         });
         StudentException exception = assertThrows(StudentException.class, () ->
                 studentService.getStudentById(STUDENT_ID));
@@ -189,20 +441,107 @@ class StudentServiceTest {
     }
 
     @Test
-    void Should_ReturnStudentPage_When_ValidPageableIsProvided() {
-        Pageable pageable = PageRequest.of(PAGE, SIZE, Sort.by(DEFAULT_SORT).ascending());
-        Page<Student> studentPage = getSamplePage();
-        when(studentRepository.findAll(pageable)).thenReturn(studentPage);
-        assertEquals(studentPage, studentService.getStudentsPage());
+    void Should_ReturnStudentPage_When_CursorIsNotProvided() {
+        List<StudentResponseDto> students = getSampleStudentResponseList(1);
+        var pageable = PageRequest.of(0, DEFAULT_PAGE_SIZE);
+        when(studentRepository.findFirstPage(pageable)).thenReturn(new SliceImpl<>(students, pageable, false));
+        CursorPage<StudentResponseDto> studentPage = studentService.getStudentsPage(StudentFilter.empty(), null, null);
+        assertEquals(students, studentPage.getContent());
+        assertNull(studentPage.getNextCursor());
+    }
+
+    @Test
+    void Should_ReturnNextCursor_When_MoreStudentsAreAvailable() {
+        List<StudentResponseDto> students = getSampleStudentResponseList(2);
+        var pageable = PageRequest.of(0, 2);
+        when(studentRepository.findFirstPage(pageable)).thenReturn(new SliceImpl<>(students, pageable, true));
+        CursorPage<StudentResponseDto> studentPage = studentService.getStudentsPage(StudentFilter.empty(), null, 2);
+        assertEquals(2, studentPage.getContent().size());
+        StudentCursor nextCursor = StudentCursor.decode(studentPage.getNextCursor());
+        assertEquals(students.get(1).getStudentId(), nextCursor.getStudentId());
+        assertEquals(students.get(1).getUpdatedAt().getTime(), nextCursor.getUpdatedAt());
+    }
+
+    @Test
+    void Should_ReturnStudentPageAfterCursor_When_CursorIsProvided() {
+        List<StudentResponseDto> students = getSampleStudentResponseList(1);
+        Timestamp updatedAt = new Timestamp(System.currentTimeMillis());
+        String cursor = new StudentCursor(updatedAt.getTime(), STUDENT_ID).encode();
+        var pageable = PageRequest.of(0, MAX_PAGE_SIZE);
+        when(studentRepository.findPageAfter(updatedAt, STUDENT_ID, pageable))
+                .thenReturn(new SliceImpl<>(students, pageable, false));
+        assertEquals(students, studentService.getStudentsPage(StudentFilter.empty(), cursor, MAX_PAGE_SIZE + 100)
+                .getContent());
+    }
+
+    @Test
+    void Should_ReturnFilteredStudentPage_When_FilterIsProvided() {
+        List<StudentResponseDto> students = getSampleStudentResponseList(1);
+        var studentFilter = new StudentFilter(TUITION_CLASS_ID, GRADE, null, null, null);
+        var pageable = PageRequest.of(0, DEFAULT_PAGE_SIZE);
+        when(studentRepository.findFilteredSlice(studentFilter, null, pageable))
+                .thenReturn(new SliceImpl<>(students, pageable, false));
+        assertEquals(students, studentService.getStudentsPage(studentFilter, null, null).getContent());
+        verify(studentRepository, never()).findFirstPage(any());
+    }
+
+    @Test
+    void Should_ReturnFilteredStudentPageAfterCursor_When_FilterAndCursorAreProvided() {
+        List<StudentResponseDto> students = getSampleStudentResponseList(2);
+        var studentFilter = new StudentFilter(null, null, StudentStatus.COMING, Gender.MALE, null);
+        Timestamp updatedAt = new Timestamp(System.currentTimeMillis());
+        String cursor = new StudentCursor(updatedAt.getTime(), STUDENT_ID).encode();
+        var pageable = PageRequest.of(0, 2);
+        when(studentRepository.findFilteredSlice(eq(studentFilter), argThat(after -> after != null
+                && STUDENT_ID.equals(after.getStudentId()) && after.getUpdatedAt() == updatedAt.getTime()),
+                eq(pageable))).thenReturn(new SliceImpl<>(students, pageable, true));
+        CursorPage<StudentResponseDto> studentPage = studentService.getStudentsPage(studentFilter, cursor, 2);
+        assertEquals(2, studentPage.getContent().size());
+        assertEquals(students.get(1).getStudentId(), StudentCursor.decode(studentPage.getNextCursor()).getStudentId());
+    }
+
+    @Test
+    void Should_ReturnNumberedSlice_When_PageIsRequested() {
+        List<StudentResponseDto> students = getSampleStudentResponseList(2);
+        var pageable = PageRequest.of(3, 2);
+        when(studentRepository.findFirstPage(pageable)).thenReturn(new SliceImpl<>(students, pageable, true));
+        Slice<StudentResponseDto> studentSlice = studentService.getStudentsSlice(StudentFilter.empty(), 3, 2);
+        assertEquals(students, studentSlice.getContent());
+        assertEquals(3, studentSlice.getNumber());
+        assertTrue(studentSlice.hasNext());
+    }
+
+    @Test
+    void Should_CountStudentsOnce_When_SameFilterIsCountedRepeatedly() {
+        var studentFilter = new StudentFilter(TUITION_CLASS_ID, null, null, null, null);
+        when(studentRepository.countFiltered(any(StudentFilter.class))).thenReturn(42L);
+        assertEquals(42L, studentService.getStudentCount(studentFilter));
+        assertEquals(42L, studentService.getStudentCount(new StudentFilter(TUITION_CLASS_ID, null, null, null, null)));
+        assertEquals(42L, studentService.getStudentCount(StudentFilter.empty()));
+        verify(studentRepository, times(2)).countFiltered(any(StudentFilter.class));
+    }
+
+    @Test
+    void Should_ThrowStudentException_When_CountStudentsInDatabaseIsFailed() {
+        when(studentRepository.countFiltered(any(StudentFilter.class))).thenThrow(new DataAccessException("ERROR") {
+        });
+        StudentException exception = assertThrows(StudentException.class, () ->
+                studentService.getStudentCount(StudentFilter.empty()));
+        assertEquals("Counting students in database is failed", exception.getMessage());
+    }
+
+    @Test
+    void Should_ThrowInvalidCursorException_When_CursorIsInvalid() {
+        assertThrows(InvalidCursorException.class, () -> studentService.getStudentsPage(StudentFilter.empty(),
+                "invalid-cursor", null));
     }
 
     @Test
     void Should_ThrowStudentException_When_GetStudentPageFromDatabaseIsFailed() {
-        Pageable pageable = PageRequest.of(PAGE, SIZE, Sort.by(DEFAULT_SORT).ascending());
-        when(studentRepository.findAll(pageable)).thenThrow(new DataAccessException("ERROR") {
+        when(studentRepository.findFirstPage(PageRequest.of(0, DEFAULT_PAGE_SIZE))).thenThrow(new DataAccessException("ERROR") {
         });
         StudentException exception = assertThrows(StudentException.class, () ->
-                studentService.getStudentsPage());
+                studentService.getStudentsPage(StudentFilter.empty(), null, null));
         assertEquals("Retrieving students details from database is failed", exception.getMessage());
     }
 
@@ -296,6 +635,22 @@ class StudentServiceTest {
         assertEquals("Updating student to database is failed", exception.getMessage());
     }
 
+    @Test
+    void Should_ThrowStudentVersionConflictException_When_StudentIsChangedConcurrentlyForUpdateStudent() {
+        Student student = getSampleStudent();
+        UpdateStudentRequestDto updateStudentRequestDto = getSampleUpdateStudentRequestDto();
+        LocationResponseWrapper locationResponseWrapper = getSampleLocationResponseWrapper();
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(student));
+        when(studentRepository.existsByFirstNameAndLastNameAndStudentIdNot(UPDATED_FIRST_NAME, UPDATED_LAST_NAME, STUDENT_ID))
+                .thenReturn(false);
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(LocationResponseWrapper.class))).thenReturn(ResponseEntity.of(Optional.of(locationResponseWrapper)));
+        when(studentRepository.save(any(Student.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Student.class, STUDENT_ID));
+        assertThrows(StudentVersionConflictException.class, () ->
+                studentService.updateStudent(updateStudentRequestDto, ACCESS_TOKEN));
+    }
+
     @Test
     void Should_StudentException_When_CheckTheAlreadyExistenceStudentInDatabaseIsFailedForUpdateStudent() {
         UpdateStudentRequestDto updateStudentRequestDto = getSampleUpdateStudentRequestDto();
@@ -311,42 +666,111 @@ class StudentServiceTest {
 
     @Test
     void Should_DeleteStudent_When_StudentIdIsProvided() {
-        Student student = getSampleStudent();
-        student.setDeleted(true);
-        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(student));
+        when(studentRepository.softDeleteById(eq(STUDENT_ID), any(Timestamp.class))).thenReturn(1);
         studentService.deleteStudent(STUDENT_ID);
-        verify(studentRepository, times(1)).save(student);
+        verify(studentRepository, times(1)).softDeleteById(eq(STUDENT_ID), any(Timestamp.class));
+        verify(studentRepository, never()).findById(anyString());
+        verify(studentRepository, never()).save(any());
     }
 
     @Test
     void Should_ThrowInvalidStudentException_When_DeleteStudentIsFailed() {
-        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.empty());
+        when(studentRepository.softDeleteById(eq(STUDENT_ID), any(Timestamp.class))).thenReturn(0);
         InvalidStudentException exception = assertThrows(InvalidStudentException.class, () ->
                 studentService.deleteStudent(STUDENT_ID));
         assertEquals("The given student id is invalid" + STUDENT_ID, exception.getMessage());
     }
 
-
     @Test
-    void Should_ThrowStudentException_When_GetStudentIsFailedForDelete() {
-        Student student = getSampleStudent();
-        student.setDeleted(true);
-        when(studentRepository.findById(STUDENT_ID)).thenThrow(new DataAccessException("ERROR") { });
-        when(studentRepository.save(student)).thenThrow(new DataAccessException("ERROR") {  });
+    void Should_ThrowStudentException_When_DeleteStudentIsFailed() {
+        when(studentRepository.softDeleteById(eq(STUDENT_ID), any(Timestamp.class)))
+                .thenThrow(new DataAccessException("ERROR") {  });
         StudentException exception = assertThrows(StudentException.class, () ->
                 studentService.deleteStudent(STUDENT_ID));
-        assertEquals("Retrieving student from database is failed", exception.getMessage());
+        assertEquals("Deleting student is failed", exception.getMessage());
     }
 
     @Test
-    void Should_ThrowStudentException_When_DeleteStudentIsFailed() {
-        Student student = getSampleStudent();
-        student.setDeleted(true);
-        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(student));
-        when(studentRepository.save(student)).thenThrow(new DataAccessException("ERROR") {  });
+    void Should_DeleteDistinctStudents_When_StudentIdsAreProvided() {
+        studentCache.synchronous().put(STUDENT_ID, new CachedStudent(new StudentResponseDto(getSampleStudent())));
+        var deleteStudentsRequestDto = new DeleteStudentsRequestDto();
+        deleteStudentsRequestDto.setStudentIds(List.of(STUDENT_ID, STUDENT_ID, "sid-2"));
+        when(studentRepository.softDeleteByIds(eq(List.of(STUDENT_ID, "sid-2")), any(Timestamp.class)))
+                .thenReturn(1);
+        assertEquals(1, studentService.deleteStudents(deleteStudentsRequestDto));
+        assertNull(studentCache.synchronous().getIfPresent(STUDENT_ID));
+        verify(studentRepository, never()).findIdsByTuitionClassId(anyString());
+    }
+
+    @Test
+    void Should_DeleteClassStudentsInChunks_When_TuitionClassIdIsProvided() {
+        List<String> studentIds = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            studentIds.add(STUDENT_ID + "-" + i);
+        }
+        var deleteStudentsRequestDto = new DeleteStudentsRequestDto();
+        deleteStudentsRequestDto.setTuitionClassId(TUITION_CLASS_ID);
+        when(studentRepository.findIdsByTuitionClassId(TUITION_CLASS_ID)).thenReturn(studentIds);
+        when(studentRepository.softDeleteByIds(anyList(), any(Timestamp.class)))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        assertEquals(2500, studentService.deleteStudents(deleteStudentsRequestDto));
+        verify(studentRepository, times(3)).softDeleteByIds(anyList(), any(Timestamp.class));
+        verify(studentRepository).softDeleteByIds(eq(studentIds.subList(2000, 2500)), any(Timestamp.class));
+    }
+
+    @Test
+    void Should_EvictDeletedChunks_When_LaterChunkFails() {
+        List<String> studentIds = new ArrayList<>();
+        for (int i = 0; i < DELETE_CHUNK_SIZE + 500; i++) {
+            studentIds.add(STUDENT_ID + "-" + i);
+        }
+        String deletedStudentId = studentIds.get(0);
+        String notDeletedStudentId = studentIds.get(1200);
+        studentCache.synchronous().put(deletedStudentId, new CachedStudent(new StudentResponseDto(getSampleStudent())));
+        studentCache.synchronous().put(notDeletedStudentId,
+                new CachedStudent(new StudentResponseDto(getSampleStudent())));
+        var deleteStudentsRequestDto = new DeleteStudentsRequestDto();
+        deleteStudentsRequestDto.setTuitionClassId(TUITION_CLASS_ID);
+        when(studentRepository.findIdsByTuitionClassId(TUITION_CLASS_ID)).thenReturn(studentIds);
+        when(studentRepository.softDeleteByIds(anyList(), any(Timestamp.class))).thenReturn(1000)
+                .thenThrow(new DataAccessException("ERROR") {  });
+        assertThrows(StudentException.class, () -> studentService.deleteStudents(deleteStudentsRequestDto));
+        assertNull(studentCache.synchronous().getIfPresent(deletedStudentId));
+        assertTrue(studentCache.synchronous().asMap().containsKey(notDeletedStudentId));
+    }
+
+    @Test
+    void Should_ChangeListVersion_When_LaterChunkOfStudentsIsDeleted() {
+        List<String> studentIds = new ArrayList<>();
+        for (int i = 0; i <= DELETE_CHUNK_SIZE; i++) {
+            studentIds.add(STUDENT_ID + "-" + i);
+        }
+        var deleteStudentsRequestDto = new DeleteStudentsRequestDto();
+        deleteStudentsRequestDto.setTuitionClassId(TUITION_CLASS_ID);
+        var lastUpdatedAt = new AtomicReference<Timestamp>();
+        List<String> listETags = new ArrayList<>();
+        when(studentRepository.findIdsByTuitionClassId(TUITION_CLASS_ID)).thenReturn(studentIds);
+        when(studentRepository.findLastUpdatedAt()).thenAnswer(invocation -> Optional.ofNullable(lastUpdatedAt.get()));
+        when(studentRepository.softDeleteByIds(anyList(), any(Timestamp.class))).thenAnswer(invocation -> {
+            lastUpdatedAt.set(invocation.getArgument(1));
+            listETags.add(StudentETag.ofList(studentService.getStudentListVersion(), StudentFilter.of(null, null,
+                    null, null, null), null, null, null));
+            return invocation.getArgument(0, List.class).size();
+        });
+        assertEquals(DELETE_CHUNK_SIZE + 1, studentService.deleteStudents(deleteStudentsRequestDto));
+        assertEquals(2, listETags.size());
+        assertNotEquals(listETags.get(0), listETags.get(1));
+    }
+
+    @Test
+    void Should_ThrowStudentException_When_DeleteStudentsIsFailed() {
+        var deleteStudentsRequestDto = new DeleteStudentsRequestDto();
+        deleteStudentsRequestDto.setTuitionClassId(TUITION_CLASS_ID);
+        when(studentRepository.findIdsByTuitionClassId(TUITION_CLASS_ID))
+                .thenThrow(new DataAccessException("ERROR") {  });
         StudentException exception = assertThrows(StudentException.class, () ->
-                studentService.deleteStudent(STUDENT_ID));
-        assertEquals("Deleting student is failed", exception.getMessage());
+                studentService.deleteStudents(deleteStudentsRequestDto));
+        assertEquals("Deleting students is failed", exception.getMessage());
     }
 
     /**
@@ -361,6 +785,7 @@ class StudentServiceTest {
         student.setAge(AGE);
         student.setGrade(GRADE);
         student.setPhoneNumber(PHONE_NUMBER);
+        student.setStudentStatus(StudentStatus.COMING);
         student.setGender(Gender.valueOf(GENDER.toUpperCase()));
         student.setFirstName(FIRST_NAME);
         student.setLastName(LAST_NAME);
@@ -417,15 +842,20 @@ class StudentServiceTest {
     }
 
     /**
-     * This method creates sample student page
+     * This method creates sample student response list
      *
-     * @return StudentPage
+     * @param count number of students
+     * @return StudentResponseList
      */
-    private Page<Student> getSamplePage() {
-        Student student = getSampleStudent();
-        List<Student> studentList = new ArrayList<>();
-        studentList.add(student);
-        return new PageImpl<>(studentList);
+    private List<StudentResponseDto> getSampleStudentResponseList(int count) {
+        List<StudentResponseDto> studentList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Student student = getSampleStudent();
+            student.setStudentId(STUDENT_ID + "-" + i);
+            student.setUpdatedAt(new Timestamp(System.currentTimeMillis()));
+            studentList.add(new StudentResponseDto(student));
+        }
+        return studentList;
     }
 
     /**
@@ -447,4 +877,11 @@ class StudentServiceTest {
         return updateStudentRequestDto;
     }
 
+    private PatchStudentRequestDto getSamplePatchStudentRequestDto() {
+        PatchStudentRequestDto patchStudentRequestDto = new PatchStudentRequestDto();
+        patchStudentRequestDto.setStudentId(STUDENT_ID);
+        patchStudentRequestDto.setVersion(STUDENT_VERSION);
+        return patchStudentRequestDto;
+    }
+
 }
\ No newline at end of file
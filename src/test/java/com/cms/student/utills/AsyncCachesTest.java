@@ -0,0 +1,103 @@
+package com.cms.student.utills;
+
+import com.cms.student.exception.InvalidStudentException;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncCachesTest {
+    private static final long TIMEOUT_MILLIS = 2000;
+    private static final int CALLERS = 20;
+    private static final String KEY = "sid-1254";
+
+    private AsyncCache<String, String> cache;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder().buildAsync();
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void Should_LoadOnCallingThread_When_KeyIsNotCached() {
+        var caller = Thread.currentThread();
+        assertEquals("loaded", AsyncCaches.getOrLoad(cache, KEY, key -> {
+            assertSame(caller, Thread.currentThread());
+            return "loaded";
+        }));
+        assertEquals("loaded", cache.synchronous().getIfPresent(KEY));
+    }
+
+    @Test
+    void Should_ShareOneLoad_When_CallersMissSameKeyConcurrently() throws Exception {
+        var loads = new AtomicInteger();
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> AsyncCaches.getOrLoad(cache, KEY, key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "loaded";
+        })));
+        assertTrue(loading.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> AsyncCaches.getOrLoad(cache, KEY, key -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+        release.countDown();
+        for (Future<String> result : results) {
+            assertEquals("loaded", result.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void Should_NotCacheLoadedValue_When_KeyIsInvalidatedDuringLoad() {
+        assertEquals("before change", AsyncCaches.getOrLoad(cache, KEY, key -> {
+            cache.synchronous().invalidate(KEY);
+            return "before change";
+        }));
+        assertNull(cache.synchronous().getIfPresent(KEY));
+        assertEquals("after change", AsyncCaches.getOrLoad(cache, KEY, key -> "after change"));
+    }
+
+    @Test
+    void Should_ThrowAndNotCache_When_LoadFails() {
+        assertThrows(InvalidStudentException.class, () -> AsyncCaches.getOrLoad(cache, KEY, key -> {
+            throw new InvalidStudentException("ERROR");
+        }));
+        assertNull(cache.getIfPresent(KEY));
+        assertEquals("loaded", AsyncCaches.getOrLoad(cache, KEY, key -> "loaded"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
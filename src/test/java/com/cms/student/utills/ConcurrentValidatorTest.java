@@ -0,0 +1,130 @@
+package com.cms.student.utills;
+
+import com.cms.student.exception.ConnectionException;
+import com.cms.student.exception.InvalidLocationException;
+import com.cms.student.exception.StudentAlreadyExistsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentValidatorTest {
+    private static final long TIMEOUT_MILLIS = 500;
+
+    private ConcurrentValidator concurrentValidator;
+
+    @BeforeEach
+    void setUp() {
+        concurrentValidator = new ConcurrentValidator(Executors.newFixedThreadPool(2), TIMEOUT_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        concurrentValidator.shutdown();
+    }
+
+    @Test
+    void Should_RunValidationsConcurrently_When_AllValidationsPass() {
+        var bothStarted = new CountDownLatch(2);
+        var passed = new AtomicInteger();
+        Runnable validation = () -> {
+            bothStarted.countDown();
+            try {
+                assertTrue(bothStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            passed.incrementAndGet();
+        };
+        concurrentValidator.validateAll(validation, validation);
+        assertEquals(2, passed.get());
+    }
+
+    @Test
+    void Should_ThrowFirstFailureAndCancelOthers_When_OneValidationFails() throws InterruptedException {
+        var slowValidationStarted = new CountDownLatch(1);
+        var slowValidationInterrupted = new CountDownLatch(1);
+        Runnable slowValidation = () -> {
+            slowValidationStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                slowValidationInterrupted.countDown();
+            }
+        };
+        Runnable failedValidation = () -> {
+            try {
+                slowValidationStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new StudentAlreadyExistsException("Student already exists");
+        };
+        assertThrows(StudentAlreadyExistsException.class, () ->
+                concurrentValidator.validateAll(slowValidation, failedValidation));
+        assertTrue(slowValidationInterrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void Should_KeepExceptionType_When_LocationValidationFails() {
+        Runnable failedValidation = () -> {
+            throw new InvalidLocationException("The selected location id not exists. Id : tid-1");
+        };
+        InvalidLocationException exception = assertThrows(InvalidLocationException.class, () ->
+                concurrentValidator.validateAll(() -> { }, failedValidation));
+        assertEquals("The selected location id not exists. Id : tid-1", exception.getMessage());
+    }
+
+    @Test
+    void Should_ThrowConnectionException_When_ValidationsExceedTheDeadline() {
+        Runnable slowValidation = () -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        assertThrows(ConnectionException.class, () -> concurrentValidator.validateAll(slowValidation, () -> { }));
+    }
+
+    @Test
+    void Should_CollectFailurePerKey_When_ValidatingKeysConcurrently() {
+        var allStarted = new CountDownLatch(2);
+        Map<String, RuntimeException> failures = concurrentValidator.validateEach(List.of("tid-1", "tid-2"), key -> {
+            allStarted.countDown();
+            try {
+                assertTrue(allStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (key.equals("tid-2")) {
+                throw new InvalidLocationException("The selected location id not exists. Id : " + key);
+            }
+        });
+        assertEquals(1, failures.size());
+        assertInstanceOf(InvalidLocationException.class, failures.get("tid-2"));
+    }
+
+    @Test
+    void Should_FailOnlySlowKey_When_KeyValidationExceedsTheDeadline() {
+        Map<String, RuntimeException> failures = concurrentValidator.validateEach(List.of("tid-1", "tid-2"), key -> {
+            if (key.equals("tid-1")) {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        assertInstanceOf(ConnectionException.class, failures.get("tid-1"));
+        assertFalse(failures.containsKey("tid-2"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.cms.student.utills;
+
+import com.cms.student.exception.ConnectionException;
+import com.cms.student.exception.InvalidLocationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicroBatcherTest {
+    private static final long TIMEOUT_MILLIS = 2000;
+    private static final long WINDOW_MILLIS = 200;
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final String TOKEN = "token";
+
+    private final List<Set<String>> resolvedBatches = new CopyOnWriteArrayList<>();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        resolvedBatches.clear();
+        executor = Executors.newFixedThreadPool(MAX_BATCH_SIZE * 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void Should_ResolveLookupsTogether_When_TheyArriveWithinWindow() throws Exception {
+        var microBatcher = new MicroBatcher<String, String, Boolean>(this::resolve, MAX_BATCH_SIZE, WINDOW_MILLIS,
+                TIMEOUT_MILLIS);
+        List<Future<Boolean>> results = submit(microBatcher, TOKEN, "tid-1", "tid-2", "tid-3", "missing-1");
+        assertTrue(results.get(0).get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertTrue(results.get(2).get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertFalse(results.get(3).get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(List.of(Set.of("tid-1", "tid-2", "tid-3", "missing-1")), resolvedBatches);
+    }
+
+    @Test
+    void Should_ResolveBatchAtOnce_When_BatchIsFull() throws Exception {
+        var microBatcher = new MicroBatcher<String, String, Boolean>(this::resolve, 2, TIMEOUT_MILLIS * 10,
+                TIMEOUT_MILLIS);
+        List<Future<Boolean>> results = submit(microBatcher, TOKEN, "tid-1", "tid-2");
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        }
+        assertEquals(1, resolvedBatches.size());
+    }
+
+    @Test
+    void Should_ResolveGroupsSeparately_When_LookupsHaveDifferentGroups() throws Exception {
+        var microBatcher = new MicroBatcher<String, String, Boolean>(this::resolve, MAX_BATCH_SIZE, WINDOW_MILLIS,
+                TIMEOUT_MILLIS);
+        List<Future<Boolean>> results = new ArrayList<>(submit(microBatcher, TOKEN, "tid-1"));
+        results.addAll(submit(microBatcher, "other-token", "tid-2"));
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        }
+        assertEquals(2, resolvedBatches.size());
+    }
+
+    @Test
+    void Should_ThrowResolverExceptionToEveryCaller_When_ResolvingBatchFails() throws Exception {
+        var microBatcher = new MicroBatcher<String, String, Boolean>((group, lookups) -> {
+            throw new InvalidLocationException("ERROR");
+        }, MAX_BATCH_SIZE, WINDOW_MILLIS, TIMEOUT_MILLIS);
+        for (Future<Boolean> result : submit(microBatcher, TOKEN, "tid-1", "tid-2")) {
+            var exception = assertThrows(ExecutionException.class, () ->
+                    result.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            assertTrue(exception.getCause() instanceof InvalidLocationException);
+        }
+    }
+
+    @Test
+    void Should_ThrowConnectionExceptionAndCompleteLookup_When_LookupIsNotResolvedBeforeDeadline() {
+        List<CompletableFuture<Boolean>> pendingLookups = new ArrayList<>();
+        var microBatcher = new MicroBatcher<String, String, Boolean>((group, lookups) ->
+                pendingLookups.addAll(lookups.values()), MAX_BATCH_SIZE, 10, 100);
+        assertThrows(ConnectionException.class, () -> microBatcher.submit(TOKEN, "tid-1"));
+        assertEquals(1, pendingLookups.size());
+        assertTrue(pendingLookups.get(0).isCompletedExceptionally());
+    }
+
+    private List<Future<Boolean>> submit(MicroBatcher<String, String, Boolean> microBatcher, String group,
+                                         String... keys) {
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (String key : keys) {
+            results.add(executor.submit(() -> microBatcher.submit(group, key)));
+        }
+        return results;
+    }
+
+    private void resolve(String group, Map<String, CompletableFuture<Boolean>> lookups) {
+        resolvedBatches.add(Set.copyOf(lookups.keySet()));
+        lookups.forEach((key, result) -> result.complete(key.startsWith("tid-")));
+    }
+}
@@ -0,0 +1,131 @@
+package com.cms.student.utills;
+
+import com.cms.student.exception.ConnectionException;
+import com.cms.student.exception.InvalidLocationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private static final long TIMEOUT_MILLIS = 2000;
+    private static final int CALLERS = 50;
+    private static final String KEY = "tid-1254";
+    private static final long JOIN_GRACE_MILLIS = 100;
+
+    private SingleFlight<String, Boolean> singleFlight;
+    private ExecutorService executor;
+    private CountDownLatch callersReady;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>(TIMEOUT_MILLIS);
+        executor = Executors.newFixedThreadPool(CALLERS);
+        callersReady = new CountDownLatch(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void Should_ShareOneCall_When_CallersUseSameKeyConcurrently() throws Exception {
+        var calls = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        List<Future<Boolean>> results = submitCallers(() -> {
+            calls.incrementAndGet();
+            await(release);
+            return true;
+        });
+        waitUntilCallersJoined();
+        release.countDown();
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void Should_ShareException_When_SharedCallFails() throws Exception {
+        var calls = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        List<Future<Boolean>> results = submitCallers(() -> {
+            calls.incrementAndGet();
+            await(release);
+            throw new InvalidLocationException("ERROR");
+        });
+        waitUntilCallersJoined();
+        release.countDown();
+        for (Future<Boolean> result : results) {
+            var exception = assertThrows(ExecutionException.class, () ->
+                    result.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            assertTrue(exception.getCause() instanceof InvalidLocationException);
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void Should_CallAgain_When_PreviousCallIsCompleted() {
+        var calls = new AtomicInteger();
+        singleFlight.execute(KEY, () -> calls.incrementAndGet() > 0);
+        singleFlight.execute(KEY, () -> calls.incrementAndGet() > 0);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void Should_ThrowConnectionException_When_SharedCallPassesDeadline() throws Exception {
+        var shortSingleFlight = new SingleFlight<String, Boolean>(100);
+        var release = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        Future<Boolean> first = executor.submit(() -> shortSingleFlight.execute(KEY, () -> {
+            started.countDown();
+            await(release);
+            return true;
+        }));
+        assertTrue(started.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertThrows(ConnectionException.class, () -> shortSingleFlight.execute(KEY, () -> false));
+        assertFalse(shortSingleFlight.execute(KEY, () -> false));
+        release.countDown();
+        assertTrue(first.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    private List<Future<Boolean>> submitCallers(Supplier<Boolean> call) {
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                callersReady.countDown();
+                return singleFlight.execute(KEY, call);
+            }));
+        }
+        return results;
+    }
+
+    /**
+     * This method waits until every caller is about to call and gives them time to join the running call
+     */
+    private void waitUntilCallersJoined() throws InterruptedException {
+        assertTrue(callersReady.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        Thread.sleep(JOIN_GRACE_MILLIS);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
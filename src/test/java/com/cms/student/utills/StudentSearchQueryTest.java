@@ -0,0 +1,50 @@
+package com.cms.student.utills;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudentSearchQueryTest {
+    private static final int MIN_TOKEN_LENGTH = 3;
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    @Test
+    void Should_RequireEveryTermAsPrefix_When_TermsAreLongEnough() {
+        var searchQuery = StudentSearchQuery.parse("  Danu Kanagasingam ", MIN_TOKEN_LENGTH, MIN_PREFIX_LENGTH);
+        assertTrue(searchQuery.isFullText());
+        assertEquals("+danu* +kanagasingam*", searchQuery.getFullTextQuery());
+    }
+
+    @Test
+    void Should_RemoveBooleanOperators_When_TextContainsThem() {
+        var searchQuery = StudentSearchQuery.parse("+dan* -(kan) \"o'neil\"", MIN_TOKEN_LENGTH, MIN_PREFIX_LENGTH);
+        assertEquals("+dan* +kan* +neil*", searchQuery.getFullTextQuery());
+    }
+
+    @Test
+    void Should_UseEveryShortTermAsPrefix_When_AllTermsAreShort() {
+        var searchQuery = StudentSearchQuery.parse("k Da%_ ka da", MIN_TOKEN_LENGTH, MIN_PREFIX_LENGTH);
+        assertFalse(searchQuery.isFullText());
+        assertEquals(List.of("da", "ka"), searchQuery.getPrefixes());
+    }
+
+    @Test
+    void Should_UseEveryTermAsPrefix_When_LongTermsAreMixedWithShortTerm() {
+        var searchQuery = StudentSearchQuery.parse("Al Perera", MIN_TOKEN_LENGTH, MIN_PREFIX_LENGTH);
+        assertFalse(searchQuery.isFullText());
+        assertEquals(List.of("perera", "al"), searchQuery.getPrefixes());
+    }
+
+    @Test
+    void Should_ReturnNull_When_TextHasNoTerm() {
+        assertNull(StudentSearchQuery.parse(" *+- ", MIN_TOKEN_LENGTH, MIN_PREFIX_LENGTH));
+        assertNull(StudentSearchQuery.parse(null, MIN_TOKEN_LENGTH, MIN_PREFIX_LENGTH));
+    }
+
+    @Test
+    void Should_ReturnNull_When_EveryTermIsShorterThanMinPrefixLength() {
+        assertNull(StudentSearchQuery.parse("d k", MIN_TOKEN_LENGTH, MIN_PREFIX_LENGTH));
+    }
+}